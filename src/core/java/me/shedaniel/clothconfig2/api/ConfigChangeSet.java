@@ -0,0 +1,97 @@
+package me.shedaniel.clothconfig2.api;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the edited leaf entries of a config screen, taken when it is saved.
+ * Sub categories are itemized into the entries they contain, and every change is keyed by the stable id path of its entry.
+ */
+public final class ConfigChangeSet {
+    private final List<Change> changes;
+    private final Map<List<String>, Change> changesByPath;
+    
+    @ApiStatus.Internal
+    public ConfigChangeSet(List<Change> changes) {
+        this.changes = ImmutableList.copyOf(changes);
+        Map<List<String>, Change> changesByPath = Maps.newLinkedHashMap();
+        for (Change change : this.changes)
+            if (changesByPath.put(change.getPath(), change) != null)
+                throw new IllegalArgumentException("Duplicate change path " + change.getPath());
+        this.changesByPath = Collections.unmodifiableMap(changesByPath);
+    }
+    
+    @NotNull
+    public List<Change> getChanges() {
+        return changes;
+    }
+    
+    /**
+     * @param path the ids of the category, the containing sub categories and the field, see {@link Change#getPath()}
+     * @return the change of that entry, or {@code null} if it wasn't edited
+     */
+    @Nullable
+    public Change getChange(List<String> path) {
+        return changesByPath.get(path);
+    }
+    
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+    
+    public int size() {
+        return changes.size();
+    }
+    
+    public static final class Change {
+        private final List<String> path;
+        @Nullable private final Object value;
+        
+        @ApiStatus.Internal
+        public Change(@NotNull List<String> path, @Nullable Object value) {
+            if (path.size() < 2)
+                throw new IllegalArgumentException("Expected a category and a field, got " + path);
+            this.path = ImmutableList.copyOf(path);
+            this.value = value;
+        }
+        
+        /**
+         * The ids are the translation keys of the category, sub category and field names, or their plain text if they aren't translated,
+         * so they don't change with the language. Siblings sharing a name get their position appended from the second one on, like {@code name#2}.
+         *
+         * @return the ids of the category, the containing sub categories and the field
+         */
+        @NotNull
+        public List<String> getPath() {
+            return path;
+        }
+        
+        @NotNull
+        public String getCategory() {
+            return path.get(0);
+        }
+        
+        @NotNull
+        public String getField() {
+            return path.get(path.size() - 1);
+        }
+        
+        /**
+         * Lists are copied into unmodifiable lists and key codes into new key codes,
+         * other values are handed over as is and should be immutable.
+         *
+         * @return a copy of the value of the entry when it was saved
+         */
+        @Nullable
+        public Object getValue() {
+            return value;
+        }
+    }
+}
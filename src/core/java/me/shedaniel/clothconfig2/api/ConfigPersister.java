@@ -0,0 +1,28 @@
+package me.shedaniel.clothconfig2.api;
+
+/**
+ * Writes a config to its storage off the render thread.
+ * <p>
+ * When the screen is saved, the edited entries are applied on the client thread in one go,
+ * then {@link #persist(ConfigChangeSet)} runs on a background thread.
+ * If applying or persisting fails, {@link #rollback(ConfigChangeSet, Throwable)} is called back on the client thread.
+ */
+@FunctionalInterface
+public interface ConfigPersister {
+    /**
+     * Called on the client thread before the edited entries are applied, allows taking a snapshot to roll back to.
+     */
+    default void beforeApply(ConfigChangeSet changes) {}
+    
+    /**
+     * Called on a background thread once the edited entries are applied, failures are reported by throwing.
+     * The save consumers of the entries have already run by then, so a failure leaves their values applied
+     * until {@link #rollback(ConfigChangeSet, Throwable)} restores them, for example from a snapshot taken in {@link #beforeApply(ConfigChangeSet)}.
+     */
+    void persist(ConfigChangeSet changes) throws Exception;
+    
+    /**
+     * Called on the client thread if applying or persisting {@code changes} failed.
+     */
+    default void rollback(ConfigChangeSet changes, Throwable cause) {}
+}
@@ -0,0 +1,67 @@
+package me.shedaniel.clothconfig2.api.constraint;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Validates every value of a config in a single pass without any screen, for example when the config loads on a dedicated server.
+ * The same {@link Constraint}s can be handed to the field builders through {@code ConstraintTexts#errorSupplier}, so the screen reports the same errors.
+ */
+public final class ConfigValidator {
+    private final List<Field<?>> fields = Lists.newArrayList();
+    
+    /**
+     * @param key   identifies the value in the result of {@link #validate()}
+     * @param value reads the current value
+     */
+    public <T> ConfigValidator add(String key, Supplier<T> value, Constraint<? super T> constraint) {
+        fields.add(new Field<>(Objects.requireNonNull(key), Objects.requireNonNull(value), Objects.requireNonNull(constraint)));
+        return this;
+    }
+    
+    /**
+     * @return the errors of the invalid values by key, in the order the values were added
+     */
+    public Map<String, ConstraintError> validate() {
+        Map<String, ConstraintError> errors = null;
+        for (Field<?> field : fields) {
+            Optional<ConstraintError> error = field.check();
+            if (error.isPresent()) {
+                if (errors == null)
+                    errors = Maps.newLinkedHashMap();
+                errors.put(field.key, error.get());
+            }
+        }
+        return errors == null ? Collections.emptyMap() : Collections.unmodifiableMap(errors);
+    }
+    
+    public boolean isValid() {
+        for (Field<?> field : fields)
+            if (field.check().isPresent())
+                return false;
+        return true;
+    }
+    
+    private static final class Field<T> {
+        private final String key;
+        private final Supplier<T> value;
+        private final Constraint<? super T> constraint;
+        
+        private Field(String key, Supplier<T> value, Constraint<? super T> constraint) {
+            this.key = key;
+            this.value = value;
+            this.constraint = constraint;
+        }
+        
+        private Optional<ConstraintError> check() {
+            return constraint.check(value.get());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package me.shedaniel.clothconfig2.api.constraint;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A check on a config value, free of any Minecraft class so it can also run on a dedicated server or a plain JVM.
+ * Field builders take it as an error supplier through {@code ConstraintTexts#errorSupplier}.
+ *
+ * @param <T> the type of the checked value
+ * @see ConfigValidator
+ */
+@FunctionalInterface
+public interface Constraint<T> {
+    /**
+     * @return the error of {@code value}, or empty if it is valid
+     */
+    Optional<ConstraintError> check(T value);
+    
+    /**
+     * @return a constraint reporting the error of this constraint, or else the error of {@code other}
+     */
+    default Constraint<T> and(Constraint<? super T> other) {
+        Objects.requireNonNull(other);
+        return value -> {
+            Optional<ConstraintError> error = check(value);
+            return error.isPresent() ? error : other.check(value);
+        };
+    }
+    
+    static <T> Constraint<T> none() {
+        return value -> Optional.empty();
+    }
+    
+    static <T> Constraint<T> of(Function<? super T, Optional<ConstraintError>> errorSupplier) {
+        Objects.requireNonNull(errorSupplier);
+        return errorSupplier::apply;
+    }
+    
+    static <T> Constraint<T> predicate(Predicate<? super T> predicate, ConstraintError error) {
+        Objects.requireNonNull(predicate);
+        Optional<ConstraintError> result = Optional.of(error);
+        return value -> predicate.test(value) ? Optional.empty() : result;
+    }
+    
+    static <T extends Comparable<? super T>> RangeConstraint<T> min(T minimum) {
+        return new RangeConstraint<>(Objects.requireNonNull(minimum), null);
+    }
+    
+    static <T extends Comparable<? super T>> RangeConstraint<T> max(T maximum) {
+        return new RangeConstraint<>(null, Objects.requireNonNull(maximum));
+    }
+    
+    /**
+     * @param minimum the inclusive lower bound, or {@code null} for none
+     * @param maximum the inclusive upper bound, or {@code null} for none
+     */
+    static <T extends Comparable<? super T>> RangeConstraint<T> range(@Nullable T minimum, @Nullable T maximum) {
+        return new RangeConstraint<>(minimum, maximum);
+    }
+    
+    /**
+     * @return a constraint checking every element of a list, reporting the error of the first invalid one
+     */
+    static <T> Constraint<List<T>> forEach(Constraint<? super T> elementConstraint) {
+        Objects.requireNonNull(elementConstraint);
+        return values -> {
+            for (T value : values) {
+                Optional<ConstraintError> error = elementConstraint.check(value);
+                if (error.isPresent())
+                    return error;
+            }
+            return Optional.empty();
+        };
+    }
+}
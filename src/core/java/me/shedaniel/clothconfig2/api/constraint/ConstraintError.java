@@ -0,0 +1,46 @@
+package me.shedaniel.clothconfig2.api.constraint;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The error reported by a {@link Constraint}, kept as a translation key and its arguments so it doesn't depend on any Minecraft class.
+ * The client turns it into a text with {@code ConstraintTexts}.
+ */
+public final class ConstraintError {
+    private final String translationKey;
+    private final Object[] arguments;
+    
+    public ConstraintError(String translationKey, Object... arguments) {
+        this.translationKey = Objects.requireNonNull(translationKey);
+        this.arguments = arguments.clone();
+    }
+    
+    public String getTranslationKey() {
+        return translationKey;
+    }
+    
+    public Object[] getArguments() {
+        return arguments.clone();
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof ConstraintError))
+            return false;
+        ConstraintError that = (ConstraintError) o;
+        return translationKey.equals(that.translationKey) && Arrays.equals(arguments, that.arguments);
+    }
+    
+    @Override
+    public int hashCode() {
+        return 31 * translationKey.hashCode() + Arrays.hashCode(arguments);
+    }
+    
+    @Override
+    public String toString() {
+        return arguments.length == 0 ? translationKey : translationKey + Arrays.toString(arguments);
+    }
+}
@@ -0,0 +1,56 @@
+package me.shedaniel.clothconfig2.api.constraint;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+
+/**
+ * Inclusive bounds on a comparable value, either of which may be absent.
+ *
+ * @param <T> the type of the checked value
+ */
+public final class RangeConstraint<T extends Comparable<? super T>> implements Constraint<T> {
+    @Nullable private final T minimum;
+    @Nullable private final T maximum;
+    @Nullable private final ConstraintError tooSmall;
+    @Nullable private final ConstraintError tooLarge;
+    
+    RangeConstraint(@Nullable T minimum, @Nullable T maximum) {
+        this.minimum = minimum;
+        this.maximum = maximum;
+        this.tooSmall = minimum == null ? null : new ConstraintError("text.cloth-config.error.too_small", minimum);
+        this.tooLarge = maximum == null ? null : new ConstraintError("text.cloth-config.error.too_large", maximum);
+    }
+    
+    @Nullable
+    public T getMinimum() {
+        return minimum;
+    }
+    
+    @Nullable
+    public T getMaximum() {
+        return maximum;
+    }
+    
+    public boolean contains(T value) {
+        return (maximum == null || !isLess(maximum, value)) && (minimum == null || !isLess(value, minimum));
+    }
+    
+    @Override
+    public Optional<ConstraintError> check(T value) {
+        if (maximum != null && isLess(maximum, value))
+            return Optional.of(tooLarge);
+        if (minimum != null && isLess(value, minimum))
+            return Optional.of(tooSmall);
+        return Optional.empty();
+    }
+    
+    /**
+     * Floating point values are compared like primitives, so NaN is never out of range and {@code -0.0} equals {@code 0.0}.
+     */
+    private static <T extends Comparable<? super T>> boolean isLess(T a, T b) {
+        if (a instanceof Double || a instanceof Float)
+            return ((Number) a).doubleValue() < ((Number) b).doubleValue();
+        return a.compareTo(b) < 0;
+    }
+}
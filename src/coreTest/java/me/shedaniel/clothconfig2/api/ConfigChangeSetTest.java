@@ -0,0 +1,32 @@
+package me.shedaniel.clothconfig2.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfigChangeSetTest {
+    @Test
+    public void changesAreLookedUpByPath() {
+        ConfigChangeSet changeSet = new ConfigChangeSet(Arrays.asList(
+                new ConfigChangeSet.Change(Arrays.asList("general", "radius"), 4),
+                new ConfigChangeSet.Change(Arrays.asList("general", "colors", "sky"), 0xffffff)));
+        assertEquals(2, changeSet.size());
+        assertEquals(4, changeSet.getChange(Arrays.asList("general", "radius")).getValue());
+        assertEquals("colors", changeSet.getChange(Arrays.asList("general", "colors", "sky")).getPath().get(1));
+        assertNull(changeSet.getChange(Arrays.asList("general", "speed")));
+    }
+    
+    @Test
+    public void duplicatePathsAreRejected() {
+        ConfigChangeSet.Change change = new ConfigChangeSet.Change(Arrays.asList("general", "radius"), 4);
+        assertThrows(IllegalArgumentException.class, () -> new ConfigChangeSet(Arrays.asList(change, change)));
+    }
+    
+    @Test
+    public void changesNeedACategoryAndAField() {
+        assertThrows(IllegalArgumentException.class, () -> new ConfigChangeSet.Change(Collections.singletonList("radius"), 4));
+    }
+}
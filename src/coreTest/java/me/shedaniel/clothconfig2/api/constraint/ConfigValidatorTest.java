@@ -0,0 +1,31 @@
+package me.shedaniel.clothconfig2.api.constraint;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfigValidatorTest {
+    @Test
+    public void validConfigHasNoErrors() {
+        ConfigValidator validator = new ConfigValidator()
+                .add("radius", () -> 4, Constraint.range(1, 8));
+        assertTrue(validator.isValid());
+        assertTrue(validator.validate().isEmpty());
+    }
+    
+    @Test
+    public void errorsAreKeyedInInsertionOrder() {
+        ConstraintError notEmpty = new ConstraintError("text.example.error.empty");
+        ConfigValidator validator = new ConfigValidator()
+                .add("radius", () -> 12, Constraint.range(1, 8))
+                .add("speed", () -> 0.5, Constraint.min(0.0))
+                .add("name", () -> "", Constraint.<String>predicate(name -> !name.isEmpty(), notEmpty));
+        assertFalse(validator.isValid());
+        Map<String, ConstraintError> errors = validator.validate();
+        assertArrayEquals(new String[]{"radius", "name"}, errors.keySet().toArray());
+        assertEquals(new ConstraintError("text.cloth-config.error.too_large", 8), errors.get("radius"));
+        assertEquals(notEmpty, errors.get("name"));
+    }
+}
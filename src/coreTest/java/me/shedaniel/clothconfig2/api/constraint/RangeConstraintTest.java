@@ -0,0 +1,50 @@
+package me.shedaniel.clothconfig2.api.constraint;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RangeConstraintTest {
+    @Test
+    public void boundsAreInclusive() {
+        RangeConstraint<Integer> range = Constraint.range(0, 10);
+        assertTrue(range.contains(0));
+        assertTrue(range.contains(10));
+        assertFalse(range.contains(-1));
+        assertFalse(range.contains(11));
+    }
+    
+    @Test
+    public void missingBoundIsUnbounded() {
+        assertTrue(Constraint.min(5L).contains(Long.MAX_VALUE));
+        assertTrue(Constraint.max(5L).contains(Long.MIN_VALUE));
+        assertTrue(Constraint.<Integer>range(null, null).contains(Integer.MIN_VALUE));
+    }
+    
+    @Test
+    public void reportsTheViolatedBound() {
+        RangeConstraint<Integer> range = Constraint.range(0, 10);
+        assertEquals(Optional.empty(), range.check(5));
+        assertEquals(Optional.of(new ConstraintError("text.cloth-config.error.too_small", 0)), range.check(-1));
+        assertEquals(Optional.of(new ConstraintError("text.cloth-config.error.too_large", 10)), range.check(11));
+    }
+    
+    @Test
+    public void floatingPointComparesLikePrimitives() {
+        RangeConstraint<Double> range = Constraint.range(0.0, 1.0);
+        assertTrue(range.contains(-0.0));
+        assertTrue(range.contains(Double.NaN));
+        assertFalse(Constraint.range(0f, 1f).contains(1.5f));
+    }
+    
+    @Test
+    public void forEachReportsTheFirstInvalidElement() {
+        Constraint<List<Integer>> constraint = Constraint.forEach(Constraint.max(3));
+        assertEquals(Optional.empty(), constraint.check(Arrays.asList(1, 2, 3)));
+        assertEquals(Optional.of(new ConstraintError("text.cloth-config.error.too_large", 3)), constraint.check(Arrays.asList(1, 4, 5)));
+    }
+}
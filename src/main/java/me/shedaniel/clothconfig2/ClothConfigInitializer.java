@@ -3,16 +3,43 @@ package me.shedaniel.clothconfig2;
 import me.shedaniel.clothconfig2.api.ScrollingContainer;
 import me.shedaniel.clothconfig2.impl.EasingMethod;
 import me.shedaniel.clothconfig2.impl.EasingMethod.EasingMethodImpl;
+import me.shedaniel.clothconfig2.impl.SelectionPool;
+import me.shedaniel.math.api.Executor;
+import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.resource.ResourceType;
+import net.minecraft.util.Identifier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.ApiStatus;
 
 @Environment(EnvType.CLIENT)
-public class ClothConfigInitializer {
+public class ClothConfigInitializer implements ClientModInitializer {
     public static final Logger LOGGER = LogManager.getFormatterLogger("ClothConfig");
     
+    @Override
+    public void onInitializeClient() {
+        // Language and resource pack changes can change the texts the shared dropdown selections were indexed by
+        Executor.runIf(() -> FabricLoader.getInstance().isModLoaded("fabric-resource-loader-v0"), () -> () -> {
+            ResourceManagerHelper.get(ResourceType.CLIENT_RESOURCES).registerReloadListener(new SimpleSynchronousResourceReloadListener() {
+                @Override
+                public Identifier getFabricId() {
+                    return new Identifier("cloth-config2", "selection_pools");
+                }
+                
+                @Override
+                public void apply(ResourceManager manager) {
+                    SelectionPool.invalidateAll();
+                }
+            });
+        });
+    }
+    
     @Deprecated
     @ApiStatus.ScheduledForRemoval
     public static double handleScrollingPosition(double[] target, double scroll, double maxScroll, float delta, double start, double duration) {
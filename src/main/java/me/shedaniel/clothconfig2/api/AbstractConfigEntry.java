@@ -1,8 +1,13 @@
 package me.shedaniel.clothconfig2.api;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import me.shedaniel.clothconfig2.gui.AbstractConfigScreen;
 import me.shedaniel.clothconfig2.gui.ClothConfigScreen;
 import me.shedaniel.clothconfig2.gui.widget.DynamicElementListWidget;
+import me.shedaniel.clothconfig2.impl.AsyncErrorSupplier;
+import me.shedaniel.clothconfig2.impl.EntryDependencyGraph;
+import me.shedaniel.clothconfig2.impl.PureErrorSupplier;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.client.util.math.MatrixStack;
@@ -13,8 +18,11 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -22,8 +30,20 @@ import java.util.stream.Collectors;
 public abstract class AbstractConfigEntry<T> extends DynamicElementListWidget.ElementEntry<AbstractConfigEntry<T>> implements ReferenceProvider<T> {
     private AbstractConfigScreen screen;
     private Supplier<Optional<Text>> errorSupplier;
+    private int valueGeneration;
+    @Nullable
+    private Optional<Text> cachedError;
+    private int cachedErrorGeneration;
+    private int cachedErrorScreenGeneration;
     @Nullable
     private List<ReferenceProvider<?>> referencableEntries = null;
+    @Nullable
+    private List<Consumer<? super AbstractConfigEntry<T>>> valueListeners;
+    @Nullable
+    private List<Consumer<? super AbstractConfigEntry<T>>> dependencyListeners;
+    private Set<AbstractConfigEntry<?>> dependents = Collections.emptySet();
+    @Nullable
+    private AbstractConfigEntry<?> containingEntry;
     
     @Deprecated
     @ApiStatus.ScheduledForRemoval
@@ -82,16 +102,188 @@ public abstract class AbstractConfigEntry<T> extends DynamicElementListWidget.El
     
     public abstract T getValue();
     
+    /**
+     * The result is cached until the value of this entry or of any other entry of the screen changes,
+     * so the error supplier runs once per edit rather than every time the error is queried.
+     * Entries must call {@link #markValueChanged()} whenever their value changes, an error depending on another entry
+     * should declare it with {@link #addDependency(AbstractConfigEntry)} so the screen also reports the new error.
+     */
     public final Optional<Text> getConfigError() {
-        if (errorSupplier != null && errorSupplier.get().isPresent())
-            return errorSupplier.get();
+        if (isConfigErrorStale())
+            cacheConfigError(computeConfigError());
+        return cachedError;
+    }
+    
+    private boolean isConfigErrorStale() {
+        // Error suppliers may read other entries without declaring them as dependencies
+        return cachedError == null || cachedErrorGeneration != valueGeneration || (screen != null && cachedErrorScreenGeneration != screen.getValueGeneration());
+    }
+    
+    private void cacheConfigError(Optional<Text> error) {
+        cachedError = error;
+        cachedErrorGeneration = valueGeneration;
+        cachedErrorScreenGeneration = screen != null ? screen.getValueGeneration() : 0;
+    }
+    
+    /**
+     * @return the side effect free validation of the current value, safe to run on any thread, or {@code null} if the validator isn't side effect free
+     */
+    @ApiStatus.Internal
+    @Nullable
+    public Supplier<Optional<Text>> createValidationSnapshot() {
+        if (!(errorSupplier instanceof PureErrorSupplier))
+            return null;
+        return ((PureErrorSupplier<?>) errorSupplier).snapshot();
+    }
+    
+    /**
+     * Caches the result of a snapshot from {@link #createValidationSnapshot()}, falling back to {@link #getError()} like {@link #getConfigError()} does.
+     * The screen and the containing entry are only notified if the error differs from the cached one.
+     */
+    @ApiStatus.Internal
+    public void acceptValidationResult(Optional<Text> error) {
+        Optional<Text> previous = cachedError;
+        cacheConfigError(error.isPresent() ? error : getError());
+        if (previous != null && !previous.equals(cachedError))
+            notifyStateChanged();
+    }
+    
+    /**
+     * Drops the cached error and reports the new error or validation state to the screen and the containing entry,
+     * for example once a background validation completed, without marking the value as changed.
+     */
+    @ApiStatus.Internal
+    public final void refreshConfigError() {
+        cachedError = null;
+        notifyStateChanged();
+    }
+    
+    private void notifyStateChanged() {
+        if (screen != null)
+            screen.onEntryChanged(this);
+        if (containingEntry != null)
+            containingEntry.refreshConfigError();
+    }
+    
+    private Optional<Text> computeConfigError() {
+        if (errorSupplier != null) {
+            Optional<Text> error = errorSupplier.get();
+            if (error.isPresent())
+                return error;
+        }
         return getError();
     }
     
+    /**
+     * @return whether the error of the current value is still being computed in the background
+     */
+    public boolean isValidating() {
+        return errorSupplier instanceof AsyncErrorSupplier && ((AsyncErrorSupplier<?>) errorSupplier).isPending();
+    }
+    
+    /**
+     * Marks the value of this entry as changed, invalidating the cached {@link #getConfigError()},
+     * notifying the value listeners, re-evaluating the entries depending on this one and marking the containing entry as changed.
+     * Entries should call it whenever their value changes, the screen only checks entries that never called it again after every input.
+     */
+    public void markValueChanged() {
+        valueGeneration++;
+        if (screen != null)
+            screen.onEntryValueChanged();
+        if (valueListeners != null)
+            for (Consumer<? super AbstractConfigEntry<T>> listener : Lists.newArrayList(valueListeners))
+                listener.accept(this);
+        EntryDependencyGraph.propagate(this);
+        notifyChanged();
+    }
+    
+    private void notifyChanged() {
+        if (screen != null)
+            screen.onEntryChanged(this);
+        if (containingEntry != null)
+            containingEntry.markValueChanged();
+    }
+    
+    /**
+     * Sets the entry whose value includes this one, like a sub category, it is marked as changed whenever this entry is.
+     */
+    @ApiStatus.Internal
+    public final void setContainingEntry(@Nullable AbstractConfigEntry<?> containingEntry) {
+        this.containingEntry = containingEntry;
+    }
+    
+    /**
+     * Adds a listener called with this entry every time {@link #markValueChanged()} is called.
+     */
+    public final void addValueListener(Consumer<? super AbstractConfigEntry<T>> listener) {
+        if (valueListeners == null)
+            valueListeners = Lists.newArrayList();
+        valueListeners.add(listener);
+    }
+    
+    public final void removeValueListener(Consumer<? super AbstractConfigEntry<T>> listener) {
+        if (valueListeners != null)
+            valueListeners.remove(listener);
+    }
+    
+    /**
+     * Declares that this entry depends on {@code dependency}: whenever the value of {@code dependency} changes,
+     * the error of this entry is re-evaluated and the dependency listeners of this entry are called.
+     *
+     * @throws IllegalArgumentException if {@code dependency} already depends on this entry
+     */
+    public final void addDependency(AbstractConfigEntry<?> dependency) {
+        if (EntryDependencyGraph.isReachable(this, dependency))
+            throw new IllegalArgumentException("Dependency cycle between " + getFieldName().getString() + " and " + dependency.getFieldName().getString());
+        if (dependency.dependents.isEmpty())
+            dependency.dependents = Sets.newLinkedHashSet();
+        dependency.dependents.add(this);
+    }
+    
+    public final void removeDependency(AbstractConfigEntry<?> dependency) {
+        dependency.dependents.remove(this);
+    }
+    
+    /**
+     * Adds a listener called with this entry after one of its dependencies changed, in dependency order.
+     */
+    public final void addDependencyListener(Consumer<? super AbstractConfigEntry<T>> listener) {
+        if (dependencyListeners == null)
+            dependencyListeners = Lists.newArrayList();
+        dependencyListeners.add(listener);
+    }
+    
+    @ApiStatus.Internal
+    public final Set<AbstractConfigEntry<?>> getDependents() {
+        return Collections.unmodifiableSet(dependents);
+    }
+    
+    @ApiStatus.Internal
+    public void onDependencyChanged() {
+        valueGeneration++;
+        if (dependencyListeners != null)
+            for (Consumer<? super AbstractConfigEntry<T>> listener : Lists.newArrayList(dependencyListeners))
+                listener.accept(this);
+        notifyChanged();
+    }
+    
+    /**
+     * @return a counter incremented every time {@link #markValueChanged()} is called or a dependency of this entry changes
+     */
+    public int getValueGeneration() {
+        return valueGeneration;
+    }
+    
     public void lateRender(MatrixStack matrices, int mouseX, int mouseY, float delta) {}
     
+    @Override
+    public void dontRender(MatrixStack matrices, float delta) {
+        updateSelected(false);
+    }
+    
     public void setErrorSupplier(Supplier<Optional<Text>> errorSupplier) {
         this.errorSupplier = errorSupplier;
+        this.cachedError = null;
     }
     
     public Optional<Text> getError() {
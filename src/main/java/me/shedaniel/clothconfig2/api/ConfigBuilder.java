@@ -7,6 +7,7 @@ import net.fabricmc.api.Environment;
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.function.Consumer;
 
@@ -75,6 +76,19 @@ public interface ConfigBuilder {
     
     ConfigBuilder setSavingRunnable(Runnable runnable);
     
+    @Nullable
+    default ConfigPersister getPersister() {
+        return null;
+    }
+    
+    /**
+     * Only the edited entries are applied on save, {@code persister} then writes them on a background thread.
+     * Builders that don't support persisters ignore it, like {@link #getPersister()} returning {@code null}.
+     */
+    default ConfigBuilder setPersister(@Nullable ConfigPersister persister) {
+        return this;
+    }
+    
     Consumer<Screen> getAfterInitConsumer();
     
     ConfigBuilder setAfterInitConsumer(Consumer<Screen> afterInitConsumer);
@@ -1,5 +1,6 @@
 package me.shedaniel.clothconfig2.api;
 
+import me.shedaniel.clothconfig2.gui.entries.LazyListEntry;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.text.StringRenderable;
@@ -21,6 +22,29 @@ public interface ConfigCategory {
     
     ConfigCategory addEntry(AbstractConfigListEntry entry);
     
+    /**
+     * Adds an entry that is only built when it is scrolled into view, useful for categories with a large amount of entries.
+     *
+     * @param fieldName    the field name, used before the entry is built
+     * @param entryFactory the factory building the entry, may be called again after an unedited entry is released
+     * @return this category
+     */
+    default <T> ConfigCategory addLazyEntry(Text fieldName, Supplier<? extends AbstractConfigListEntry<T>> entryFactory) {
+        return addEntry(new LazyListEntry<>(fieldName, entryFactory));
+    }
+    
+    /**
+     * Like {@link #addLazyEntry(Text, Supplier)}, reading the value and the default value from the suppliers while the entry isn't built,
+     * so walking all the entries of the screen doesn't build them.
+     *
+     * @param value        the value the built entry starts with
+     * @param defaultValue the default value of the built entry, or {@code null} for none
+     * @return this category
+     */
+    default <T> ConfigCategory addLazyEntry(Text fieldName, Supplier<T> value, @Nullable Supplier<T> defaultValue, Supplier<? extends AbstractConfigListEntry<T>> entryFactory) {
+        return addEntry(new LazyListEntry<>(fieldName, value, defaultValue, entryFactory));
+    }
+    
     ConfigCategory setCategoryBackground(Identifier identifier);
     
     void setBackground(@Nullable Identifier background);
@@ -9,6 +9,12 @@ import java.util.function.Consumer;
 public interface ConfigScreen {
     void setSavingRunnable(@Nullable Runnable savingRunnable);
     
+    /**
+     * Switches saving to the edited entries only, with {@code persister} writing them off the render thread.
+     * Screens that don't support persisters ignore it and keep saving every entry.
+     */
+    default void setPersister(@Nullable ConfigPersister persister) {}
+    
     void setAfterInitConsumer(@Nullable Consumer<Screen> afterInitConsumer);
     
     Identifier getBackgroundLocation();
@@ -0,0 +1,32 @@
+package me.shedaniel.clothconfig2.api;
+
+import me.shedaniel.clothconfig2.api.constraint.Constraint;
+import me.shedaniel.clothconfig2.api.constraint.ConstraintError;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.text.Text;
+import net.minecraft.text.TranslatableText;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bridges the Minecraft independent {@link Constraint}s to the texts shown by the config screen.
+ */
+@Environment(EnvType.CLIENT)
+public final class ConstraintTexts {
+    private ConstraintTexts() {}
+    
+    public static Text toText(ConstraintError error) {
+        return new TranslatableText(error.getTranslationKey(), error.getArguments());
+    }
+    
+    /**
+     * @return an error supplier for field builders reporting the errors of {@code constraint}
+     */
+    public static <T> Function<T, Optional<Text>> errorSupplier(Constraint<? super T> constraint) {
+        Objects.requireNonNull(constraint);
+        return value -> constraint.check(value).map(ConstraintTexts::toText);
+    }
+}
@@ -1,10 +1,19 @@
 package me.shedaniel.clothconfig2.gui;
 
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.mojang.blaze3d.systems.RenderSystem;
 import it.unimi.dsi.fastutil.booleans.BooleanConsumer;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import me.shedaniel.clothconfig2.ClothConfigInitializer;
 import me.shedaniel.clothconfig2.api.*;
 import me.shedaniel.clothconfig2.gui.entries.KeyCodeEntry;
+import me.shedaniel.clothconfig2.gui.entries.LazyListEntry;
+import me.shedaniel.clothconfig2.gui.entries.MultiElementListEntry;
+import me.shedaniel.clothconfig2.gui.entries.SubCategoryListEntry;
+import me.shedaniel.clothconfig2.impl.ParallelValidation;
 import me.shedaniel.math.Rectangle;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.Element;
@@ -24,13 +33,23 @@ import net.minecraft.util.math.Matrix4f;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 public abstract class AbstractConfigScreen extends Screen implements ConfigScreen {
     protected static final Identifier CONFIG_TEX = new Identifier("cloth-config2", "textures/gui/cloth_config.png");
+    // Single thread so saves are written in order, not a daemon so a running write completes before the game exits,
+    // the idle thread stops after a second so it holds the exit for at most that long
+    private static final ExecutorService SAVE_EXECUTOR = new ThreadPoolExecutor(0, 1, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setNameFormat("Cloth Config Saving").build());
     private boolean legacyEdited = false;
     private final Identifier backgroundLocation;
     protected boolean legacyRequiresRestart = false;
@@ -45,9 +64,24 @@ public abstract class AbstractConfigScreen extends Screen implements ConfigScree
     private KeyCodeEntry focusedBinding;
     private ModifierKeyCode startedKeyCode = null;
     private final List<Tooltip> tooltips = Lists.newArrayList();
+    private int valueGeneration;
+    @Nullable
+    private Reference2ObjectLinkedOpenHashMap<AbstractConfigEntry<?>, EntryState> entryStates = null;
+    private int editedEntryCount;
+    private int restartEntryCount;
+    private int validatingEntryCount;
+    private int erroringEntryCount;
+    private boolean silentEntriesStale = false;
+    @Nullable
+    private List<Text> entryErrors = null;
     @Nullable
     private Runnable savingRunnable = null;
     @Nullable
+    private ConfigPersister persister = null;
+    private boolean saving = false;
+    @Nullable
+    private Throwable saveError = null;
+    @Nullable
     protected Consumer<Screen> afterInitConsumer = null;
     
     protected AbstractConfigScreen(Screen parent, Text title, Identifier backgroundLocation) {
@@ -61,6 +95,11 @@ public abstract class AbstractConfigScreen extends Screen implements ConfigScree
         this.savingRunnable = savingRunnable;
     }
     
+    @Override
+    public void setPersister(@Nullable ConfigPersister persister) {
+        this.persister = persister;
+    }
+    
     @Override
     public void setAfterInitConsumer(@Nullable Consumer<Screen> afterInitConsumer) {
         this.afterInitConsumer = afterInitConsumer;
@@ -74,14 +113,8 @@ public abstract class AbstractConfigScreen extends Screen implements ConfigScree
     @Override
     public boolean isRequiresRestart() {
         if (legacyRequiresRestart) return true;
-        for (List<AbstractConfigEntry<?>> entries : getCategorizedEntries().values()) {
-            for (AbstractConfigEntry<?> entry : entries) {
-                if (!entry.getConfigError().isPresent() && entry.isEdited() && entry.isRequiresRestart()) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        countEntryStates();
+        return restartEntryCount > 0;
     }
     
     public abstract Map<Text, List<AbstractConfigEntry<?>>> getCategorizedEntries();
@@ -89,14 +122,110 @@ public abstract class AbstractConfigScreen extends Screen implements ConfigScree
     @Override
     public boolean isEdited() {
         if (legacyEdited) return true;
+        countEntryStates();
+        return editedEntryCount > 0;
+    }
+    
+    /**
+     * Counts the edited, erroring and restart requiring top level entries once,
+     * afterwards the counts only change when an entry reports a change through {@link #onEntryChanged(AbstractConfigEntry)}.
+     * Entries that never reported a change may not report them at all, those are counted again after every input instead.
+     */
+    private void countEntryStates() {
+        if (entryStates != null) {
+            if (silentEntriesStale) {
+                silentEntriesStale = false;
+                for (Map.Entry<AbstractConfigEntry<?>, EntryState> entry : entryStates.entrySet())
+                    if (!entry.getValue().reportsChanges)
+                        updateEntryState(entry.getKey(), entry.getValue());
+            }
+            return;
+        }
+        silentEntriesStale = false;
+        entryStates = new Reference2ObjectLinkedOpenHashMap<>();
+        editedEntryCount = 0;
+        restartEntryCount = 0;
+        validatingEntryCount = 0;
+        erroringEntryCount = 0;
+        entryErrors = null;
         for (List<AbstractConfigEntry<?>> entries : getCategorizedEntries().values()) {
             for (AbstractConfigEntry<?> entry : entries) {
-                if (entry.isEdited()) {
-                    return true;
-                }
+                EntryState state = new EntryState();
+                entryStates.put(entry, state);
+                updateEntryState(entry, state);
             }
         }
-        return false;
+    }
+    
+    /**
+     * Adjusts the counts by the difference between the last and the current state of {@code entry}.
+     */
+    private void updateEntryState(AbstractConfigEntry<?> entry, EntryState state) {
+        Optional<Text> error = entry.getConfigError();
+        boolean edited = entry.isEdited();
+        boolean validating = entry.isValidating();
+        boolean requiresRestart = !error.isPresent() && edited && entry.isRequiresRestart();
+        editedEntryCount += Boolean.compare(edited, state.edited);
+        validatingEntryCount += Boolean.compare(validating, state.validating);
+        restartEntryCount += Boolean.compare(requiresRestart, state.requiresRestart);
+        erroringEntryCount += Boolean.compare(error.isPresent(), state.error != null);
+        if (state.error != error.orElse(null))
+            entryErrors = null;
+        state.edited = edited;
+        state.validating = validating;
+        state.requiresRestart = requiresRestart;
+        state.error = error.orElse(null);
+    }
+    
+    /**
+     * Called by entries when their value or their error changed, only the top level entries are counted,
+     * nested entries report to the entry containing them.
+     */
+    @ApiStatus.Internal
+    public void onEntryChanged(AbstractConfigEntry<?> entry) {
+        if (entryStates == null)
+            return;
+        EntryState state = entryStates.get(entry);
+        if (state != null) {
+            state.reportsChanges = true;
+            updateEntryState(entry, state);
+        }
+    }
+    
+    /**
+     * @return the amount of top level entries that are edited
+     */
+    public int getEditedEntryCount() {
+        countEntryStates();
+        return editedEntryCount;
+    }
+    
+    /**
+     * @return the errors of all top level entries, in category order
+     */
+    public List<Text> getEntryErrors() {
+        countEntryStates();
+        if (entryErrors == null) {
+            List<Text> errors = Lists.newArrayListWithCapacity(erroringEntryCount);
+            for (EntryState state : entryStates.values())
+                if (state.error != null)
+                    errors.add(state.error);
+            entryErrors = Collections.unmodifiableList(errors);
+        }
+        return entryErrors;
+    }
+    
+    public boolean hasErrors() {
+        countEntryStates();
+        return erroringEntryCount > 0;
+    }
+    
+    /**
+     * @return whether some entries are still being validated in the background, saving is blocked until they complete
+     */
+    public boolean isValidating() {
+        countEntryStates();
+        return validatingEntryCount > 0;
     }
     
     /**
@@ -164,11 +293,29 @@ public abstract class AbstractConfigScreen extends Screen implements ConfigScree
     
     @Override
     public void saveAll(boolean openOtherScreens) {
+        if (saving)
+            return;
+        this.saveError = null;
+        try {
+            ParallelValidation.validate(Iterables.concat(getCategorizedEntries().values()));
+        } catch (RuntimeException e) {
+            ClothConfigInitializer.LOGGER.error("Failed to validate config " + getTitle().getString(), e);
+            this.saveError = e;
+            return;
+        }
+        // The validation pass may have found errors the cached ones missed
+        if (hasErrors())
+            return;
+        if (persister != null) {
+            saveWithPersister(persister, openOtherScreens);
+            return;
+        }
         for (List<AbstractConfigEntry<?>> entries : Lists.newArrayList(getCategorizedEntries().values()))
             for (AbstractConfigEntry<?> entry : entries)
                 entry.save();
         save();
         setEdited(false);
+        markValuesChanged();
         if (openOtherScreens) {
             if (isRequiresRestart())
                 AbstractConfigScreen.this.client.openScreen(new ClothRequiresRestartScreen(parent));
@@ -178,6 +325,130 @@ public abstract class AbstractConfigScreen extends Screen implements ConfigScree
         this.legacyRequiresRestart = false;
     }
     
+    /**
+     * Applies only the edited entries, then hands the change set to the persister on a background thread.
+     * The screen stays open until the write completes, a failure rolls back and keeps the screen open.
+     * The save consumers run before the write, so a failed write leaves them applied until the persister rolls back.
+     */
+    private void saveWithPersister(ConfigPersister persister, boolean openOtherScreens) {
+        List<AbstractConfigEntry<?>> edited = Lists.newArrayList();
+        List<ConfigChangeSet.Change> changes = Lists.newArrayList();
+        for (Map.Entry<Text, List<AbstractConfigEntry<?>>> category : getCategorizedEntries().entrySet()) {
+            for (AbstractConfigEntry<?> entry : category.getValue())
+                if (entry.isEdited())
+                    edited.add(entry);
+            collectChanges(Collections.singletonList(getStableId(category.getKey())), category.getValue(), changes);
+        }
+        ConfigChangeSet changeSet = new ConfigChangeSet(changes);
+        boolean requiresRestart = isRequiresRestart();
+        try {
+            persister.beforeApply(changeSet);
+            for (AbstractConfigEntry<?> entry : edited)
+                entry.save();
+            save();
+        } catch (Throwable throwable) {
+            onSaveFailed(persister, changeSet, throwable);
+            return;
+        }
+        this.saving = true;
+        CompletableFuture.runAsync(() -> {
+            try {
+                persister.persist(changeSet);
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, SAVE_EXECUTOR).whenComplete((result, throwable) -> client.execute(() -> {
+            this.saving = false;
+            if (throwable != null) {
+                onSaveFailed(persister, changeSet, throwable.getCause() != null ? throwable.getCause() : throwable);
+                return;
+            }
+            setEdited(false);
+            markValuesChanged();
+            this.legacyRequiresRestart = false;
+            if (openOtherScreens && client.currentScreen == this) {
+                if (requiresRestart)
+                    client.openScreen(new ClothRequiresRestartScreen(parent));
+                else
+                    client.openScreen(parent);
+            }
+        }));
+        markValuesChanged();
+    }
+    
+    /**
+     * Itemizes sub categories and multi element entries, also when they are built lazily, into their edited leaf entries.
+     * Siblings with the same id are told apart by their position, the second one gets the id suffixed by {@code #2} and so on.
+     */
+    private static void collectChanges(List<String> parentPath, List<? extends AbstractConfigEntry<?>> entries, List<ConfigChangeSet.Change> changes) {
+        Map<String, Integer> occurrences = Maps.newHashMap();
+        for (AbstractConfigEntry<?> entry : entries) {
+            String id = getStableId(entry.getFieldName());
+            int occurrence = occurrences.merge(id, 1, Integer::sum);
+            if (!entry.isEdited())
+                continue;
+            // Lazy entries are built once they are edited
+            if (entry instanceof LazyListEntry)
+                entry = ((LazyListEntry<?>) entry).getEntry();
+            List<String> path = Lists.newArrayList(parentPath);
+            path.add(occurrence == 1 ? id : id + "#" + occurrence);
+            if (entry instanceof SubCategoryListEntry || entry instanceof MultiElementListEntry) {
+                List<AbstractConfigEntry<?>> children = Lists.newArrayList();
+                for (ReferenceProvider<?> child : entry.getReferenceProviderEntries())
+                    children.add(child.provideReferenceEntry());
+                collectChanges(path, children, changes);
+            } else {
+                changes.add(new ConfigChangeSet.Change(path, copyValue(entry.getValue())));
+            }
+        }
+    }
+    
+    private static String getStableId(Text text) {
+        return text instanceof TranslatableText ? ((TranslatableText) text).getKey() : text.getString();
+    }
+    
+    /**
+     * Copies the mutable values built in entries hand out, so the save thread never sees them change.
+     */
+    @Nullable
+    private static Object copyValue(@Nullable Object value) {
+        if (value instanceof ModifierKeyCode)
+            return ((ModifierKeyCode) value).copy();
+        if (value instanceof List) {
+            List<Object> copy = Lists.newArrayListWithCapacity(((List<?>) value).size());
+            for (Object element : (List<?>) value)
+                copy.add(copyValue(element));
+            return Collections.unmodifiableList(copy);
+        }
+        return value;
+    }
+    
+    private void onSaveFailed(ConfigPersister persister, ConfigChangeSet changeSet, Throwable throwable) {
+        ClothConfigInitializer.LOGGER.error("Failed to save config " + getTitle().getString(), throwable);
+        this.saveError = throwable;
+        try {
+            persister.rollback(changeSet, throwable);
+        } catch (Throwable rollbackError) {
+            ClothConfigInitializer.LOGGER.error("Failed to roll back config " + getTitle().getString(), rollbackError);
+        }
+        markValuesChanged();
+    }
+    
+    /**
+     * @return whether a save is being written in the background
+     */
+    public boolean isSaving() {
+        return saving;
+    }
+    
+    /**
+     * @return the cause of the last failed save, cleared when saving again
+     */
+    @Nullable
+    public Throwable getSaveError() {
+        return saveError;
+    }
+    
     public void save() {
         Optional.ofNullable(this.savingRunnable).ifPresent(Runnable::run);
     }
@@ -196,6 +467,30 @@ public abstract class AbstractConfigScreen extends Screen implements ConfigScree
         this.confirmSave = confirmSave;
     }
     
+    /**
+     * @return a counter incremented every time the value of an entry changes and every time all entries are counted again
+     */
+    public int getValueGeneration() {
+        return valueGeneration;
+    }
+    
+    /**
+     * Called by entries when their value changed, before they report the change through {@link #onEntryChanged(AbstractConfigEntry)}.
+     */
+    @ApiStatus.Internal
+    public void onEntryValueChanged() {
+        valueGeneration++;
+    }
+    
+    /**
+     * Counts all the entries again on the next query, for changes entries don't report themselves like saving.
+     */
+    @ApiStatus.Internal
+    public void markValuesChanged() {
+        valueGeneration++;
+        entryStates = null;
+    }
+    
     public KeyCodeEntry getFocusedBinding() {
         return focusedBinding;
     }
@@ -204,14 +499,17 @@ public abstract class AbstractConfigScreen extends Screen implements ConfigScree
     public void setFocusedBinding(KeyCodeEntry focusedBinding) {
         this.focusedBinding = focusedBinding;
         if (focusedBinding != null) {
-            startedKeyCode = this.focusedBinding.getValue();
+            // The entry shows the binding in progress, which is completed in place until the key is released
+            startedKeyCode = this.focusedBinding.getValue().copy();
             startedKeyCode.setKeyCodeAndModifier(InputUtil.UNKNOWN_KEYCODE, Modifier.none());
+            focusedBinding.setValue(startedKeyCode);
         } else
             startedKeyCode = null;
     }
     
     @Override
     public boolean mouseReleased(double double_1, double double_2, int int_1) {
+        silentEntriesStale = true;
         if (this.focusedBinding != null && this.startedKeyCode != null && !this.startedKeyCode.isUnknown() && focusedBinding.isAllowMouse()) {
             focusedBinding.setValue(startedKeyCode);
             setFocusedBinding(null);
@@ -222,6 +520,7 @@ public abstract class AbstractConfigScreen extends Screen implements ConfigScree
     
     @Override
     public boolean keyReleased(int int_1, int int_2, int int_3) {
+        silentEntriesStale = true;
         if (this.focusedBinding != null && this.startedKeyCode != null && focusedBinding.isAllowKey()) {
             focusedBinding.setValue(startedKeyCode);
             setFocusedBinding(null);
@@ -232,6 +531,7 @@ public abstract class AbstractConfigScreen extends Screen implements ConfigScree
     
     @Override
     public boolean mouseClicked(double double_1, double double_2, int int_1) {
+        silentEntriesStale = true;
         if (this.focusedBinding != null && this.startedKeyCode != null && focusedBinding.isAllowMouse()) {
             if (startedKeyCode.isUnknown())
                 startedKeyCode.setKeyCode(InputUtil.Type.MOUSE.createFromCode(int_1));
@@ -264,8 +564,27 @@ public abstract class AbstractConfigScreen extends Screen implements ConfigScree
         }
     }
     
+    @Override
+    public boolean charTyped(char chr, int keyCode) {
+        silentEntriesStale = true;
+        return super.charTyped(chr, keyCode);
+    }
+    
+    @Override
+    public boolean mouseDragged(double mouseX, double mouseY, int button, double deltaX, double deltaY) {
+        silentEntriesStale = true;
+        return super.mouseDragged(mouseX, mouseY, button, deltaX, deltaY);
+    }
+    
+    @Override
+    public boolean mouseScrolled(double mouseX, double mouseY, double amount) {
+        silentEntriesStale = true;
+        return super.mouseScrolled(mouseX, mouseY, amount);
+    }
+    
     @Override
     public boolean keyPressed(int int_1, int int_2, int int_3) {
+        silentEntriesStale = true;
         if (this.focusedBinding != null && (focusedBinding.isAllowKey() || int_1 == 256)) {
             if (int_1 != 256) {
                 if (startedKeyCode.isUnknown())
@@ -365,6 +684,15 @@ public abstract class AbstractConfigScreen extends Screen implements ConfigScree
         this.tooltips.add(tooltip);
     }
     
+    private static final class EntryState {
+        private boolean reportsChanges;
+        private boolean edited;
+        private boolean validating;
+        private boolean requiresRestart;
+        @Nullable
+        private Text error;
+    }
+    
     protected void overlayBackground(MatrixStack matrices, Rectangle rect, int red, int green, int blue, int startAlpha, int endAlpha) {
         overlayBackground(matrices.peek().getModel(), rect, red, green, blue, startAlpha, endAlpha);
     }
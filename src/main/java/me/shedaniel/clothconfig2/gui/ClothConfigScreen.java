@@ -28,6 +28,7 @@ import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Matrix4f;
 import org.jetbrains.annotations.ApiStatus;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -125,11 +126,20 @@ public class ClothConfigScreen extends AbstractTabbedConfigScreen {
         super.saveAll(openOtherScreens);
     }
     
+    @Override
+    public void removed() {
+        super.removed();
+        if (listWidget != null)
+            listWidget.close();
+    }
+    
     @Override
     protected void init() {
         super.init();
         this.tabButtons.clear();
         
+        if (listWidget != null)
+            listWidget.close();
         children.add(listWidget = new ListWidget(this, client, width, height, isShowingTabs() ? 70 : 30, height - 32, getBackgroundLocation()));
         if (categorizedEntries.size() > selectedCategoryIndex) {
             listWidget.children().addAll((List) Lists.newArrayList(categorizedEntries.values()).get(selectedCategoryIndex));
@@ -139,18 +149,11 @@ public class ClothConfigScreen extends AbstractTabbedConfigScreen {
         addButton(saveButton = new ButtonWidget(width / 2 + 3, height - 26, buttonWidths, 20, NarratorManager.EMPTY, button -> saveAll(true)) {
             @Override
             public void render(MatrixStack matrices, int mouseX, int mouseY, float delta) {
-                boolean hasErrors = false;
-                for (List<AbstractConfigEntry<?>> entries : Lists.newArrayList(categorizedEntries.values())) {
-                    for (AbstractConfigEntry<?> entry : entries)
-                        if (entry.getConfigError().isPresent()) {
-                            hasErrors = true;
-                            break;
-                        }
-                    if (hasErrors)
-                        break;
-                }
-                active = isEdited() && !hasErrors;
-                setMessage(hasErrors ? new TranslatableText("text.cloth-config.error_cannot_save") : new TranslatableText("text.cloth-config.save_and_done"));
+                boolean hasErrors = hasErrors();
+                boolean validating = !hasErrors && isValidating();
+                boolean saving = isSaving();
+                active = isEdited() && !hasErrors && !validating && !saving;
+                setMessage(saving ? new TranslatableText("text.cloth-config.saving") : hasErrors ? new TranslatableText("text.cloth-config.error_cannot_save") : validating ? new TranslatableText("text.cloth-config.validating") : new TranslatableText("text.cloth-config.save_and_done"));
                 super.render(matrices, mouseX, mouseY, delta);
             }
         });
@@ -236,7 +239,7 @@ public class ClothConfigScreen extends AbstractTabbedConfigScreen {
         }
         listWidget.render(matrices, mouseX, mouseY, delta);
         ScissorsHandler.INSTANCE.scissor(new Rectangle(listWidget.left, listWidget.top, listWidget.width, listWidget.bottom - listWidget.top));
-        for (AbstractConfigEntry child : listWidget.children())
+        for (AbstractConfigEntry child : listWidget.getRenderedEntries())
             child.lateRender(matrices, mouseX, mouseY, delta);
         ScissorsHandler.INSTANCE.removeLastScissor();
         if (isShowingTabs()) {
@@ -256,11 +259,9 @@ public class ClothConfigScreen extends AbstractTabbedConfigScreen {
             drawCenteredText(matrices, client.textRenderer, title, width / 2, 12, -1);
         
         if (isEditable()) {
-            List<Text> errors = Lists.newArrayList();
-            for (List<AbstractConfigEntry<?>> entries : Lists.newArrayList(categorizedEntries.values()))
-                for (AbstractConfigEntry<?> entry : entries)
-                    if (entry.getConfigError().isPresent())
-                        errors.add(entry.getConfigError().get());
+            List<Text> errors = getEntryErrors();
+            if (errors.isEmpty() && getSaveError() != null)
+                errors = Collections.singletonList(new TranslatableText("text.cloth-config.error.save_failed", String.valueOf(getSaveError().getMessage())));
             if (errors.size() > 0) {
                 client.getTextureManager().bindTexture(CONFIG_TEX);
                 RenderSystem.color4f(1.0F, 1.0F, 1.0F, 1.0F);
@@ -314,8 +315,6 @@ public class ClothConfigScreen extends AbstractTabbedConfigScreen {
         buffer.vertex(matrix, tabsBounds.getMaxX() - 20, tabsBounds.getMinY() + 4, 0.0F).texture(1f, 1f).color(0, 0, 0, lightColor).next();
         buffer.vertex(matrix, tabsBounds.getMaxX() - 20, tabsBounds.getMinY(), 0.0F).texture(1f, 0).color(0, 0, 0, darkColor).next();
         buffer.vertex(matrix, tabsBounds.getMinX() + 20, tabsBounds.getMinY(), 0.0F).texture(0, 0).color(0, 0, 0, darkColor).next();
-        tessellator.draw();
-        buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
         buffer.vertex(matrix, tabsBounds.getMinX() + 20, tabsBounds.getMaxY(), 0.0F).texture(0, 1f).color(0, 0, 0, darkColor).next();
         buffer.vertex(matrix, tabsBounds.getMaxX() - 20, tabsBounds.getMaxY(), 0.0F).texture(1f, 1f).color(0, 0, 0, darkColor).next();
         buffer.vertex(matrix, tabsBounds.getMaxX() - 20, tabsBounds.getMaxY() - 4, 0.0F).texture(1f, 0).color(0, 0, 0, lightColor).next();
@@ -416,7 +415,7 @@ public class ClothConfigScreen extends AbstractTabbedConfigScreen {
             BufferBuilder bufferBuilder = tessellator.getBuffer();
             bufferBuilder.begin(7, VertexFormats.POSITION_COLOR);
             fillGradient(matrices.peek().getModel(), bufferBuilder, xStart, yStart, xEnd, yEnd, this.getZOffset(), colorStart, colorEnd);
-            tessellator.draw();
+            draw(tessellator);
             RenderSystem.shadeModel(7424);
             RenderSystem.disableBlend();
             RenderSystem.enableAlphaTest();
@@ -444,7 +443,15 @@ public class ClothConfigScreen extends AbstractTabbedConfigScreen {
             if (!this.isMouseOver(mouseX, mouseY)) {
                 return false;
             } else {
-                for (R entry : children()) {
+                // An open overlay (e.g. a dropdown menu) is drawn above the rows it covers, so it gets the click first
+                R focused = getFocused();
+                boolean overlayClicked = focused != null && isOverlayAt(focused, mouseY);
+                if (overlayClicked && focused.mouseClicked(mouseX, mouseY, button)) {
+                    this.setDragging(true);
+                    return true;
+                }
+                R entry = getItemAtRow(mouseY);
+                if (entry != null && !(overlayClicked && entry == focused)) {
                     if (entry.mouseClicked(mouseX, mouseY, button)) {
                         this.setFocused(entry);
                         this.setDragging(true);
@@ -468,11 +475,5 @@ public class ClothConfigScreen extends AbstractTabbedConfigScreen {
                 fillGradient(matrices, left, top, right, bottom, 0x68000000, 0x68000000);
             }
         }
-        
-        @Override
-        protected void renderHoleBackground(MatrixStack matrices, int y1, int y2, int alpha1, int alpha2) {
-            if (!screen.isTransparentBackground())
-                super.renderHoleBackground(matrices, y1, y2, alpha1, alpha2);
-        }
     }
 }
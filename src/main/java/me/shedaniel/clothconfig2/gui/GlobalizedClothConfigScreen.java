@@ -5,6 +5,7 @@ import com.google.common.collect.Maps;
 import com.mojang.blaze3d.systems.RenderSystem;
 import me.shedaniel.clothconfig2.ClothConfigInitializer;
 import me.shedaniel.clothconfig2.api.*;
+import me.shedaniel.clothconfig2.impl.BackgroundBuffer;
 import me.shedaniel.math.Rectangle;
 import net.minecraft.class_5481;
 import net.minecraft.client.MinecraftClient;
@@ -55,6 +56,8 @@ public class GlobalizedClothConfigScreen extends AbstractConfigScreen implements
         }
     };
     private Reference lastHoveredReference = null;
+    private final BackgroundBuffer sideArrowBuffer = new BackgroundBuffer();
+    private final BackgroundBuffer sideBackgroundBuffer = new BackgroundBuffer();
     private final ScrollingContainer sideSlider = new ScrollingContainer() {
         private Rectangle empty = new Rectangle();
         
@@ -110,6 +113,15 @@ public class GlobalizedClothConfigScreen extends AbstractConfigScreen implements
         return this.categorizedEntries;
     }
     
+    @Override
+    public void removed() {
+        super.removed();
+        if (listWidget != null)
+            listWidget.close();
+        sideArrowBuffer.close();
+        sideBackgroundBuffer.close();
+    }
+    
     @SuppressWarnings("rawtypes")
     @Override
     protected void init() {
@@ -117,6 +129,8 @@ public class GlobalizedClothConfigScreen extends AbstractConfigScreen implements
         this.sideExpandLimit.reset();
         this.references.clear();
         buildReferences();
+        if (listWidget != null)
+            listWidget.close();
         this.children.add(listWidget = new ClothConfigScreen.ListWidget<>(this, client, width - 14, height, 30, height - 32, getBackgroundLocation()));
         this.listWidget.setLeftPos(14);
         this.categorizedEntries.forEach((category, entries) -> {
@@ -132,18 +146,11 @@ public class GlobalizedClothConfigScreen extends AbstractConfigScreen implements
         addButton(exitButton = new ButtonWidget(0, height - 26, buttonWidths, 20, NarratorManager.EMPTY, button -> saveAll(true)) {
             @Override
             public void render(MatrixStack matrices, int mouseX, int mouseY, float delta) {
-                boolean hasErrors = false;
-                label:
-                for (List<AbstractConfigEntry<?>> entries : categorizedEntries.values()) {
-                    for (AbstractConfigEntry<?> entry : entries) {
-                        if (entry.getConfigError().isPresent()) {
-                            hasErrors = true;
-                            break label;
-                        }
-                    }
-                }
-                active = isEdited() && !hasErrors;
-                setMessage(hasErrors ? new TranslatableText("text.cloth-config.error_cannot_save") : new TranslatableText("text.cloth-config.save_and_done"));
+                boolean hasErrors = hasErrors();
+                boolean validating = !hasErrors && isValidating();
+                boolean saving = isSaving();
+                active = isEdited() && !hasErrors && !validating && !saving;
+                setMessage(saving ? new TranslatableText("text.cloth-config.saving") : hasErrors ? new TranslatableText("text.cloth-config.error_cannot_save") : validating ? new TranslatableText("text.cloth-config.validating") : new TranslatableText("text.cloth-config.save_and_done"));
                 super.render(matrices, mouseX, mouseY, delta);
             }
         });
@@ -188,7 +195,7 @@ public class GlobalizedClothConfigScreen extends AbstractConfigScreen implements
         listWidget.setLeftPos(sliderPosition);
         listWidget.render(matrices, mouseX, mouseY, delta);
         ScissorsHandler.INSTANCE.scissor(new Rectangle(listWidget.left, listWidget.top, listWidget.width, listWidget.bottom - listWidget.top));
-        for (AbstractConfigEntry<?> child : listWidget.children())
+        for (AbstractConfigEntry<?> child : listWidget.getRenderedEntries())
             child.lateRender(matrices, mouseX, mouseY, delta);
         ScissorsHandler.INSTANCE.removeLastScissor();
         textRenderer.drawWithShadow(matrices, title.method_30937(), sliderPosition + (width - sliderPosition) / 2f - textRenderer.getWidth(title) / 2f, 12, -1);
@@ -202,24 +209,28 @@ public class GlobalizedClothConfigScreen extends AbstractConfigScreen implements
             fillGradient(matrices, 0, 0, sliderPosition, height, -1240461296, -972025840);
             fillGradient(matrices, 0, 0, sliderPosition - 14, height, 1744830464, 1744830464);
         } else {
-            Tessellator tessellator = Tessellator.getInstance();
-            BufferBuilder buffer = tessellator.getBuffer();
+            BufferBuilder buffer = Tessellator.getInstance().getBuffer();
             client.getTextureManager().bindTexture(getBackgroundLocation());
             RenderSystem.color4f(1.0F, 1.0F, 1.0F, 1.0F);
-            float f = 32.0F;
-            buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
-            buffer.vertex(sliderPosition - 14, height, 0.0D).texture(0, height / 32.0F).color(68, 68, 68, 255).next();
-            buffer.vertex(sliderPosition, height, 0.0D).texture(14 / 32.0F, height / 32.0F).color(68, 68, 68, 255).next();
-            buffer.vertex(sliderPosition, 0, 0.0D).texture(14 / 32.0F, 0).color(68, 68, 68, 255).next();
-            buffer.vertex(sliderPosition - 14, 0, 0.0D).texture(0, 0).color(68, 68, 68, 255).next();
-            tessellator.draw();
-            
-            buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
-            buffer.vertex(0, height, 0.0D).texture(0, (height + (int) sideScroller.scrollAmount) / 32.0F).color(32, 32, 32, 255).next();
-            buffer.vertex(sliderPosition - 14, height, 0.0D).texture((sliderPosition - 14) / 32.0F, (height + (int) sideScroller.scrollAmount) / 32.0F).color(32, 32, 32, 255).next();
-            buffer.vertex(sliderPosition - 14, 0, 0.0D).texture((sliderPosition - 14) / 32.0F, ((int) sideScroller.scrollAmount) / 32.0F).color(32, 32, 32, 255).next();
-            buffer.vertex(0, 0, 0.0D).texture(0, ((int) sideScroller.scrollAmount) / 32.0F).color(32, 32, 32, 255).next();
-            tessellator.draw();
+            if (!sideArrowBuffer.isBuiltFor(sliderPosition, height)) {
+                buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
+                buffer.vertex(sliderPosition - 14, height, 0.0D).texture(0, height / 32.0F).color(68, 68, 68, 255).next();
+                buffer.vertex(sliderPosition, height, 0.0D).texture(14 / 32.0F, height / 32.0F).color(68, 68, 68, 255).next();
+                buffer.vertex(sliderPosition, 0, 0.0D).texture(14 / 32.0F, 0).color(68, 68, 68, 255).next();
+                buffer.vertex(sliderPosition - 14, 0, 0.0D).texture(0, 0).color(68, 68, 68, 255).next();
+                sideArrowBuffer.upload(buffer, sliderPosition, height);
+            }
+            if (!sideBackgroundBuffer.isBuiltFor(sliderPosition, height)) {
+                buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
+                buffer.vertex(0, height, 0.0D).texture(0, height / 32.0F).color(32, 32, 32, 255).next();
+                buffer.vertex(sliderPosition - 14, height, 0.0D).texture((sliderPosition - 14) / 32.0F, height / 32.0F).color(32, 32, 32, 255).next();
+                buffer.vertex(sliderPosition - 14, 0, 0.0D).texture((sliderPosition - 14) / 32.0F, 0).color(32, 32, 32, 255).next();
+                buffer.vertex(0, 0, 0.0D).texture(0, 0).color(32, 32, 32, 255).next();
+                sideBackgroundBuffer.upload(buffer, sliderPosition, height);
+            }
+            Matrix4f matrix = matrices.peek().getModel();
+            sideArrowBuffer.draw(matrix, 0);
+            sideBackgroundBuffer.draw(matrix, ((int) sideScroller.scrollAmount) / 32.0F);
         }
         {
             Matrix4f matrix = matrices.peek().getModel();
@@ -361,6 +372,8 @@ public class GlobalizedClothConfigScreen extends AbstractConfigScreen implements
     private static class CategoryTextEntry extends AbstractConfigListEntry<Object> {
         private final Text category;
         private final Text text;
+        private int wrappedWidth = -1;
+        private List<class_5481> wrappedLines;
         
         public CategoryTextEntry(Text category, Text text) {
             super(new LiteralText(UUID.randomUUID().toString()), false);
@@ -370,7 +383,7 @@ public class GlobalizedClothConfigScreen extends AbstractConfigScreen implements
         
         @Override
         public int getItemHeight() {
-            List<class_5481> strings = MinecraftClient.getInstance().textRenderer.wrapStringToWidthAsList(text, getParent().getItemWidth());
+            List<class_5481> strings = getWrappedLines();
             if (strings.isEmpty())
                 return 0;
             return 4 + strings.size() * 10;
@@ -398,8 +411,7 @@ public class GlobalizedClothConfigScreen extends AbstractConfigScreen implements
         public void render(MatrixStack matrices, int index, int y, int x, int entryWidth, int entryHeight, int mouseX, int mouseY, boolean isHovered, float delta) {
             super.render(matrices, index, y, x, entryWidth, entryHeight, mouseX, mouseY, isHovered, delta);
             int yy = y + 2;
-            List<class_5481> texts = MinecraftClient.getInstance().textRenderer.wrapStringToWidthAsList(this.text, getParent().getItemWidth());
-            for (class_5481 text : texts) {
+            for (class_5481 text : getWrappedLines()) {
                 MinecraftClient.getInstance().textRenderer.drawWithShadow(matrices, text, x - 4 + entryWidth / 2 - MinecraftClient.getInstance().textRenderer.method_30880(text) / 2, yy, -1);
                 yy += 10;
             }
@@ -409,6 +421,15 @@ public class GlobalizedClothConfigScreen extends AbstractConfigScreen implements
         public List<? extends Element> children() {
             return Collections.emptyList();
         }
+        
+        private List<class_5481> getWrappedLines() {
+            int width = getParent().getItemWidth();
+            if (wrappedWidth != width) {
+                wrappedWidth = width;
+                wrappedLines = MinecraftClient.getInstance().textRenderer.wrapStringToWidthAsList(text, width);
+            }
+            return wrappedLines;
+        }
     }
     
     private interface Reference {
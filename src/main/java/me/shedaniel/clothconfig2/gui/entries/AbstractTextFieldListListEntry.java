@@ -67,6 +67,7 @@ public abstract class AbstractTextFieldListListEntry<T, C extends AbstractTextFi
             widget.setCursorToStart();
             widget.setChangedListener(s -> {
                 widget.setEditableColor(getPreferredTextColor());
+                listListEntry.markValueChanged();
             });
         }
         
@@ -3,6 +3,7 @@ package me.shedaniel.clothconfig2.gui.entries;
 import com.google.common.collect.Lists;
 import com.mojang.blaze3d.systems.RenderSystem;
 import me.shedaniel.clothconfig2.api.Expandable;
+import me.shedaniel.clothconfig2.gui.widget.DynamicEntryListWidget;
 import me.shedaniel.math.Rectangle;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
@@ -43,6 +44,8 @@ public abstract class BaseListEntry<T, C extends BaseListCell, SELF extends Base
     @NotNull protected final List<C> cells;
     @NotNull protected final List<Element> widgets;
     protected boolean expanded;
+    private int cachedItemHeight;
+    private int cachedLayoutGeneration = -1;
     protected boolean deleteButtonEnabled;
     protected boolean insertInFront;
     @Nullable protected Consumer<List<T>> saveConsumer;
@@ -82,6 +85,8 @@ public abstract class BaseListEntry<T, C extends BaseListCell, SELF extends Base
                 cell.onAdd();
             }
             widgets.addAll(cells);
+            invalidateHeight();
+            markValueChanged();
         });
         this.widgets.add(resetWidget);
         this.saveConsumer = saveConsumer;
@@ -96,7 +101,10 @@ public abstract class BaseListEntry<T, C extends BaseListCell, SELF extends Base
     
     @Override
     public void setExpanded(boolean expanded) {
-        this.expanded = expanded;
+        if (this.expanded != expanded) {
+            this.expanded = expanded;
+            invalidateHeight();
+        }
     }
     
     @Override
@@ -176,13 +184,19 @@ public abstract class BaseListEntry<T, C extends BaseListCell, SELF extends Base
     
     @Override
     public int getItemHeight() {
+        DynamicEntryListWidget<?> parent = getParent();
+        if (parent != null && cachedLayoutGeneration == parent.getLayoutGeneration())
+            return cachedItemHeight;
+        int i = 24;
         if (expanded) {
-            int i = 24;
             for (BaseListCell entry : cells)
                 i += entry.getCellHeight();
-            return i;
         }
-        return 24;
+        if (parent != null) {
+            cachedItemHeight = i;
+            cachedLayoutGeneration = parent.getLayoutGeneration();
+        }
+        return i;
     }
     
     @Override
@@ -300,6 +314,8 @@ public abstract class BaseListEntry<T, C extends BaseListCell, SELF extends Base
                     widgets.add(cell);
                 }
                 cell.onAdd();
+                invalidateHeight();
+                markValueChanged();
                 MinecraftClient.getInstance().getSoundManager().play(PositionedSoundInstance.master(SoundEvents.UI_BUTTON_CLICK, 1.0F));
                 return true;
             } else if (isDeleteButtonEnabled() && isInsideDelete(double_1, double_2)) {
@@ -309,11 +325,13 @@ public abstract class BaseListEntry<T, C extends BaseListCell, SELF extends Base
                     //noinspection SuspiciousMethodCalls
                     cells.remove(focused);
                     widgets.remove(focused);
+                    invalidateHeight();
+                    markValueChanged();
                     MinecraftClient.getInstance().getSoundManager().play(PositionedSoundInstance.master(SoundEvents.UI_BUTTON_CLICK, 1.0F));
                 }
                 return true;
             } else if (rectangle.contains(double_1, double_2)) {
-                expanded = !expanded;
+                setExpanded(!expanded);
                 MinecraftClient.getInstance().getSoundManager().play(PositionedSoundInstance.master(SoundEvents.UI_BUTTON_CLICK, 1.0F));
                 return true;
             }
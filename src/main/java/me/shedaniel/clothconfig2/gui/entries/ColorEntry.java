@@ -20,6 +20,7 @@ public class ColorEntry extends TextFieldListEntry<Integer> {
     private ColorDisplayWidget colorDisplayWidget;
     private Consumer<Integer> saveConsumer;
     private boolean alpha;
+    @Nullable private ColorValue colorValue;
     
     @ApiStatus.Internal
     @Deprecated
@@ -34,6 +35,7 @@ public class ColorEntry extends TextFieldListEntry<Integer> {
         this.original = value;
         this.textFieldWidget.setText(getHexColorString(value));
         this.colorDisplayWidget = new ColorDisplayWidget(textFieldWidget, 0, 0, 20, getColorValueColor(textFieldWidget.getText()));
+        updateColorValue();
         this.resetButton.onPress = button -> {
             this.textFieldWidget.setText(getHexColorString(defaultValue.get()));
         };
@@ -41,17 +43,45 @@ public class ColorEntry extends TextFieldListEntry<Integer> {
     
     @Override
     protected boolean isChanged(Integer original, String s) {
-        ColorValue colorValue = getColorValue(s);
+        ColorValue colorValue = s.equals(textFieldWidget.getText()) ? getCurrentColorValue() : getColorValue(s);
         return colorValue.hasError() || this.original != colorValue.color;
     }
     
+    @Override
+    protected void onTextChanged(String text) {
+        updateColorValue();
+    }
+    
+    /**
+     * Decodes the text again, only needed when the text or the alpha mode changes.
+     */
+    private void updateColorValue() {
+        this.colorValue = getColorValue(textFieldWidget.getText());
+        if (colorDisplayWidget != null && !colorValue.hasError())
+            colorDisplayWidget.setColor(alpha ? colorValue.getColor() : 0xff000000 | colorValue.getColor());
+    }
+    
+    private ColorValue getCurrentColorValue() {
+        if (colorValue == null)
+            updateColorValue();
+        return colorValue;
+    }
+    
+    /**
+     * @return the decoded color as a packed ARGB int, or -1 if the text is not a valid color
+     */
+    public int getColor() {
+        return getCurrentColorValue().getColor();
+    }
+    
+    public boolean hasValidColor() {
+        return !getCurrentColorValue().hasError();
+    }
+    
     @Override
     public void render(MatrixStack matrices, int index, int y, int x, int entryWidth, int entryHeight, int mouseX, int mouseY, boolean isHovered, float delta) {
         super.render(matrices, index, y, x, entryWidth, entryHeight, mouseX, mouseY, isHovered, delta);
         this.colorDisplayWidget.y = y;
-        ColorValue value = getColorValue(textFieldWidget.getText());
-        if (!value.hasError())
-            colorDisplayWidget.setColor(alpha ? value.getColor() : 0xff000000 | value.getColor());
         if (MinecraftClient.getInstance().textRenderer.isRightToLeft()) {
             this.colorDisplayWidget.x = x + resetButton.getWidth() + textFieldWidget.getWidth();
         } else {
@@ -79,19 +109,19 @@ public class ColorEntry extends TextFieldListEntry<Integer> {
     protected boolean isMatchDefault(String text) {
         if (!getDefaultValue().isPresent())
             return false;
-        ColorValue colorValue = getColorValue(text);
+        ColorValue colorValue = text.equals(textFieldWidget.getText()) ? getCurrentColorValue() : getColorValue(text);
         return !colorValue.hasError() && colorValue.color == getDefaultValue().get();
     }
     
     @Override
     public boolean isEdited() {
-        ColorValue colorValue = getColorValue(textFieldWidget.getText());
+        ColorValue colorValue = getCurrentColorValue();
         return colorValue.hasError() || colorValue.color != original;
     }
     
     @Override
     public Integer getValue() {
-        return getColorValueColor(textFieldWidget.getText());
+        return getCurrentColorValue().getColor();
     }
     
     @Deprecated
@@ -101,7 +131,7 @@ public class ColorEntry extends TextFieldListEntry<Integer> {
     
     @Override
     public Optional<Text> getError() {
-        ColorValue colorValue = getColorValue(this.textFieldWidget.getText());
+        ColorValue colorValue = getCurrentColorValue();
         if (colorValue.hasError())
             return Optional.of(new TranslatableText("text.cloth-config.error.color." + colorValue.getError().name().toLowerCase(Locale.ROOT)));
         return super.getError();
@@ -111,6 +141,7 @@ public class ColorEntry extends TextFieldListEntry<Integer> {
         if (!alpha) {
             this.alpha = true;
             textFieldWidget.setText(getHexColorString(original));
+            updateColorValue();
         }
     }
     
@@ -118,6 +149,7 @@ public class ColorEntry extends TextFieldListEntry<Integer> {
         if (alpha) {
             alpha = false;
             textFieldWidget.setText(getHexColorString(original));
+            updateColorValue();
         }
     }
     
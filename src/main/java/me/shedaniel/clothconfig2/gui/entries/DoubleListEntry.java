@@ -1,11 +1,16 @@
 package me.shedaniel.clothconfig2.gui.entries;
 
+import me.shedaniel.clothconfig2.api.ConstraintTexts;
+import me.shedaniel.clothconfig2.api.constraint.Constraint;
+import me.shedaniel.clothconfig2.api.constraint.RangeConstraint;
+import me.shedaniel.clothconfig2.impl.ParsedTextCache;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.client.gui.widget.TextFieldWidget;
 import net.minecraft.text.Text;
 import net.minecraft.text.TranslatableText;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -26,7 +31,9 @@ public class DoubleListEntry extends TextFieldListEntry<Double> {
         
         return stringBuilder_1.toString();
     };
+    private final ParsedTextCache<Double> parsedText = ParsedTextCache.ofDouble();
     private double minimum, maximum;
+    @Nullable private RangeConstraint<Double> range;
     private Consumer<Double> saveConsumer;
     
     @ApiStatus.Internal
@@ -60,15 +67,11 @@ public class DoubleListEntry extends TextFieldListEntry<Double> {
     
     @Override
     protected void textFieldPreRender(TextFieldWidget widget) {
-        try {
-            double i = Double.parseDouble(textFieldWidget.getText());
-            if (i < minimum || i > maximum)
-                widget.setEditableColor(16733525);
-            else
-                widget.setEditableColor(14737632);
-        } catch (NumberFormatException ex) {
+        Double i = parsedText.parse(textFieldWidget.getText());
+        if (i == null || !getRange().contains(i))
             widget.setEditableColor(16733525);
-        }
+        else
+            widget.setEditableColor(14737632);
     }
     
     @Override
@@ -76,6 +79,23 @@ public class DoubleListEntry extends TextFieldListEntry<Double> {
         return getDefaultValue().isPresent() && text.equals(defaultValue.get().toString());
     }
     
+    @ApiStatus.Internal
+    public RangeConstraint<Double> getRange() {
+        if (range == null)
+            range = Constraint.range(minimum, maximum);
+        return range;
+    }
+    
+    /**
+     * Sets both bounds from {@code range}, a missing bound falls back to the default one.
+     */
+    public DoubleListEntry setRange(RangeConstraint<Double> range) {
+        this.minimum = range.getMinimum() != null ? range.getMinimum() : -Double.MAX_VALUE;
+        this.maximum = range.getMaximum() != null ? range.getMaximum() : Double.MAX_VALUE;
+        this.range = null;
+        return this;
+    }
+    
     @Override
     public void save() {
         if (saveConsumer != null)
@@ -84,34 +104,28 @@ public class DoubleListEntry extends TextFieldListEntry<Double> {
     
     public DoubleListEntry setMinimum(double minimum) {
         this.minimum = minimum;
+        this.range = null;
         return this;
     }
     
     public DoubleListEntry setMaximum(double maximum) {
         this.maximum = maximum;
+        this.range = null;
         return this;
     }
     
     @Override
     public Double getValue() {
-        try {
-            return Double.valueOf(textFieldWidget.getText());
-        } catch (Exception e) {
-            return 0d;
-        }
+        Double i = parsedText.parse(textFieldWidget.getText());
+        return i == null ? 0d : i;
     }
     
     @Override
     public Optional<Text> getError() {
-        try {
-            double i = Double.parseDouble(textFieldWidget.getText());
-            if (i > maximum)
-                return Optional.of(new TranslatableText("text.cloth-config.error.too_large", maximum));
-            else if (i < minimum)
-                return Optional.of(new TranslatableText("text.cloth-config.error.too_small", minimum));
-        } catch (NumberFormatException ex) {
+        Double i = parsedText.parse(textFieldWidget.getText());
+        if (i == null)
             return Optional.of(new TranslatableText("text.cloth-config.error.not_valid_number_double"));
-        }
-        return super.getError();
+        Optional<Text> error = getRange().check(i).map(ConstraintTexts::toText);
+        return error.isPresent() ? error : super.getError();
     }
 }
@@ -1,5 +1,9 @@
 package me.shedaniel.clothconfig2.gui.entries;
 
+import me.shedaniel.clothconfig2.api.ConstraintTexts;
+import me.shedaniel.clothconfig2.api.constraint.Constraint;
+import me.shedaniel.clothconfig2.api.constraint.RangeConstraint;
+import me.shedaniel.clothconfig2.impl.ParsedTextCache;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.text.Text;
@@ -17,6 +21,7 @@ import java.util.function.Supplier;
 public class DoubleListListEntry extends AbstractTextFieldListListEntry<Double, DoubleListListEntry.DoubleListCell, DoubleListListEntry> {
     
     private double minimum, maximum;
+    @Nullable private RangeConstraint<Double> range;
     
     @ApiStatus.Internal
     @Deprecated
@@ -40,11 +45,30 @@ public class DoubleListListEntry extends AbstractTextFieldListListEntry<Double,
     
     public DoubleListListEntry setMaximum(Double maximum) {
         this.maximum = maximum;
+        this.range = null;
         return this;
     }
     
     public DoubleListListEntry setMinimum(Double minimum) {
         this.minimum = minimum;
+        this.range = null;
+        return this;
+    }
+    
+    @ApiStatus.Internal
+    public RangeConstraint<Double> getRange() {
+        if (range == null)
+            range = Constraint.range(minimum, maximum);
+        return range;
+    }
+    
+    /**
+     * Sets both bounds from {@code range}, a missing bound falls back to the default one.
+     */
+    public DoubleListListEntry setRange(RangeConstraint<Double> range) {
+        this.minimum = range.getMinimum() != null ? range.getMinimum() : Double.NEGATIVE_INFINITY;
+        this.maximum = range.getMaximum() != null ? range.getMaximum() : Double.POSITIVE_INFINITY;
+        this.range = null;
         return this;
     }
     
@@ -54,6 +78,7 @@ public class DoubleListListEntry extends AbstractTextFieldListListEntry<Double,
     }
     
     public static class DoubleListCell extends AbstractTextFieldListListEntry.AbstractTextFieldListCell<Double, DoubleListCell, DoubleListListEntry> {
+        private final ParsedTextCache<Double> parsedText = ParsedTextCache.ofDouble();
         
         public DoubleListCell(Double value, final DoubleListListEntry listListEntry) {
             super(value, listListEntry);
@@ -74,25 +99,16 @@ public class DoubleListListEntry extends AbstractTextFieldListListEntry<Double,
         }
         
         public Double getValue() {
-            try {
-                return Double.valueOf(widget.getText());
-            } catch (NumberFormatException e) {
-                return 0d;
-            }
+            Double i = parsedText.parse(widget.getText());
+            return i == null ? 0d : i;
         }
         
         @Override
         public Optional<Text> getError() {
-            try {
-                double i = Double.parseDouble(widget.getText());
-                if (i > listListEntry.maximum)
-                    return Optional.of(new TranslatableText("text.cloth-config.error.too_large", listListEntry.maximum));
-                else if (i < listListEntry.minimum)
-                    return Optional.of(new TranslatableText("text.cloth-config.error.too_small", listListEntry.minimum));
-            } catch (NumberFormatException ex) {
+            Double i = parsedText.parse(widget.getText());
+            if (i == null)
                 return Optional.of(new TranslatableText("text.cloth-config.error.not_valid_number_double"));
-            }
-            return Optional.empty();
+            return listListEntry.getRange().check(i).map(ConstraintTexts::toText);
         }
         
     }
@@ -2,10 +2,17 @@ package me.shedaniel.clothconfig2.gui.entries;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.mojang.blaze3d.systems.RenderSystem;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import me.shedaniel.clothconfig2.ClothConfigInitializer;
 import me.shedaniel.clothconfig2.api.ScissorsHandler;
 import me.shedaniel.clothconfig2.api.ScrollingContainer;
+import me.shedaniel.clothconfig2.impl.CopyOnWriteView;
+import me.shedaniel.clothconfig2.impl.RankedList;
+import me.shedaniel.clothconfig2.impl.SearchIndex;
+import me.shedaniel.clothconfig2.impl.SelectionPool;
 import me.shedaniel.math.Rectangle;
 import me.shedaniel.math.impl.PointHelper;
 import net.fabricmc.api.EnvType;
@@ -32,6 +39,9 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -47,6 +57,7 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
     @NotNull private Supplier<T> defaultValue;
     @Nullable private Consumer<T> saveConsumer;
     private boolean suggestionMode = true;
+    private int lastMorePossibleHeight = -1;
     
     @ApiStatus.Internal
     @Deprecated
@@ -60,6 +71,17 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
         this.selectionElement = new SelectionElement<>(this, new Rectangle(0, 0, 150, 20), new DefaultDropdownMenuElement<>(selections == null ? ImmutableList.of() : ImmutableList.copyOf(selections)), topRenderer, cellCreator);
     }
     
+    @ApiStatus.Internal
+    public DropdownBoxEntry(Text fieldName, @NotNull Text resetButtonKey, @Nullable Supplier<Optional<Text[]>> tooltipSupplier, boolean requiresRestart, @Nullable Supplier<T> defaultValue, @Nullable Consumer<T> saveConsumer, @NotNull SelectionTopCellElement<T> topRenderer, @NotNull SelectionCellCreator<T> cellCreator, @NotNull DropdownMenuElement<T> menu) {
+        super(fieldName, tooltipSupplier, requiresRestart);
+        this.defaultValue = defaultValue;
+        this.saveConsumer = saveConsumer;
+        this.resetButton = new ButtonWidget(0, 0, MinecraftClient.getInstance().textRenderer.getWidth(resetButtonKey) + 6, 20, resetButtonKey, widget -> {
+            selectionElement.topRenderer.setValue(defaultValue.get());
+        });
+        this.selectionElement = new SelectionElement<>(this, new Rectangle(0, 0, 150, 20), menu, topRenderer, cellCreator);
+    }
+    
     @Override
     public void render(MatrixStack matrices, int index, int y, int x, int entryWidth, int entryHeight, int mouseX, int mouseY, boolean isHovered, float delta) {
         super.render(matrices, index, y, x, entryWidth, entryHeight, mouseX, mouseY, isHovered, delta);
@@ -81,6 +103,22 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
         this.selectionElement.bounds.width = 150 - resetButton.getWidth() - 4;
         resetButton.render(matrices, mouseX, mouseY, delta);
         selectionElement.render(matrices, mouseX, mouseY, delta);
+        updateMorePossibleHeight();
+    }
+    
+    @Override
+    public void dontRender(MatrixStack matrices, float delta) {
+        super.dontRender(matrices, delta);
+        updateMorePossibleHeight();
+    }
+    
+    private void updateMorePossibleHeight() {
+        int morePossibleHeight = getMorePossibleHeight();
+        if (morePossibleHeight != lastMorePossibleHeight) {
+            lastMorePossibleHeight = morePossibleHeight;
+            invalidateHeight();
+            setCapturingScroll(morePossibleHeight >= 0);
+        }
     }
     
     @Override
@@ -261,13 +299,45 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
         
         @Override
         public abstract List<SelectionCellElement<R>> children();
+        
+        /**
+         * @return the cells matching the current search, in the order they are suggested
+         */
+        public List<SelectionCellElement<R>> getSuggestions() {
+            return children();
+        }
     }
     
     public static class DefaultDropdownMenuElement<R> extends DropdownMenuElement<R> {
+        private static final ExecutorService SEARCH_EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("Cloth Config Search").setDaemon(true).build());
+        /**
+         * Candidates filtered between two checks for a newer search, long searches show their first page once this many were filtered.
+         */
+        private static final int SEARCH_CHUNK = 1024;
         @NotNull protected ImmutableList<R> selections;
+        /**
+         * Lazy view of the cells of every selection, a cell is only created once it is requested.
+         * It can still be filled and modified like a plain list, searches then scan it instead of using the search index.
+         */
         @NotNull protected List<SelectionCellElement<R>> cells;
+        /**
+         * Lazy view of the matching cells, which can also be modified like a plain list.
+         */
         @NotNull protected List<SelectionCellElement<R>> currentElements;
         protected Text lastSearchKeyword = NarratorManager.EMPTY;
+        private String lastSearchString = "";
+        @Nullable protected SearchIndex searchIndex;
+        @Nullable private SelectionPool.Snapshot<R> sharedSelections;
+        @Nullable private String lastIndexedKeyword;
+        @Nullable private int[] lastMatches;
+        private volatile int searchGeneration;
+        private int shownGeneration;
+        private final boolean customSimilarity = overridesSimilarity(getClass());
+        @Nullable private Future<?> searchTask;
+        @NotNull protected List<SelectionCellElement<R>> renderedCells = Collections.emptyList();
+        @Nullable private SelectionCellElement<R>[] createdCells;
+        private final Reference2IntOpenHashMap<SelectionCellElement<R>> createdCellIndices = new Reference2IntOpenHashMap<>();
+        private final Deque<SelectionCellElement<R>> cellPool = new ArrayDeque<>();
         protected Rectangle lastRectangle;
         protected boolean scrolling;
         protected double scroll, target;
@@ -278,6 +348,16 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
             this.selections = selections;
             this.cells = Lists.newArrayList();
             this.currentElements = Lists.newArrayList();
+            this.createdCellIndices.defaultReturnValue(-1);
+        }
+        
+        /**
+         * Uses the selections of {@code pool}, sharing their search index with the other dropdowns using it.
+         */
+        public DefaultDropdownMenuElement(@NotNull SelectionPool<R> pool) {
+            this(ImmutableList.of());
+            this.sharedSelections = pool.acquire(this);
+            this.selections = sharedSelections.getSelections();
         }
         
         public double getMaxScroll() {
@@ -294,37 +374,253 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
             return selections;
         }
         
+        @SuppressWarnings("unchecked")
         @Override
         public void initCells() {
-            for (R selection : getSelections()) {
-                cells.add(getCellCreator().create(selection));
-            }
-            for (SelectionCellElement<R> cell : cells) {
+            createdCells = new SelectionCellElement[getSelections().size()];
+            createdCellIndices.clear();
+            cellPool.clear();
+            cells = new CopyOnWriteView<>(new CellView(null));
+            searchIndex = null;
+            lastIndexedKeyword = null;
+            search();
+        }
+        
+        /**
+         * @return the cell of the selection at {@code index}, creating it, or recycling a released one, if needed
+         */
+        protected SelectionCellElement<R> getCell(int index) {
+            SelectionCellElement<R> cell = createdCells[index];
+            if (cell == null) {
+                R selection = getSelections().get(index);
+                SelectionCellElement<R> pooled = cellPool.poll();
+                cell = pooled != null ? getCellCreator().recycle(pooled, selection) : getCellCreator().create(selection);
                 cell.entry = getEntry();
+                createdCells[index] = cell;
+                createdCellIndices.put(cell, index);
             }
-            search();
+            return cell;
+        }
+        
+        /**
+         * Forgets a cell that left the drop box, it is pooled for reuse if the cell creator can recycle it.
+         */
+        protected void releaseCell(SelectionCellElement<R> cell) {
+            int index = createdCellIndices.removeInt(cell);
+            // Cells added to the cells list by subclasses are theirs to keep
+            if (index < 0)
+                return;
+            if (createdCells[index] == cell)
+                createdCells[index] = null;
+            if (cellPool.size() < 32 && getCellCreator().isRecyclable(cell))
+                cellPool.push(cell);
         }
         
+        /**
+         * The index is only built the first time something is searched, from the search keys of the cell creator.
+         * It is built on the client thread since cell creators may create cells to get their keys, only the matching runs on the search thread.
+         * Shared selections build it once for all the dropdowns using them.
+         */
+        protected SearchIndex getSearchIndex() {
+            if (searchIndex == null)
+                searchIndex = computeSearchIndex();
+            return searchIndex;
+        }
+        
+        private SearchIndex computeSearchIndex() {
+            return sharedSelections != null ? sharedSelections.getSearchIndex(this::buildSearchIndex) : buildSearchIndex();
+        }
+        
+        private SearchIndex buildSearchIndex() {
+            List<String> keys = Lists.newArrayListWithCapacity(getSelections().size());
+            for (R selection : getSelections()) {
+                Text key = getCellCreator().getSearchKey(selection);
+                keys.add(key == null ? null : key.getString());
+            }
+            return new SearchIndex(keys);
+        }
+        
+        /**
+         * Non empty keywords are searched on the search thread, a newer search cancels the previous one.
+         * The current elements are kept until the first matches arrive, long searches show their first page before filtering the rest.
+         */
         public void search() {
-            if (isSuggestionMode()) {
-                currentElements.clear();
-                String keyword = this.lastSearchKeyword.getString().toLowerCase();
+            int generation = ++searchGeneration;
+            if (searchTask != null) {
+                searchTask.cancel(false);
+                searchTask = null;
+            }
+            if (!hasLazyCells()) {
+                searchCells();
+                return;
+            }
+            if (!isSuggestionMode()) {
+                currentElements = new CopyOnWriteView<>(new CellView(null));
+                return;
+            }
+            String keyword = SearchIndex.normalize(this.lastSearchKeyword.getString());
+            if (keyword.isEmpty()) {
+                currentElements = new CopyOnWriteView<>(new CellView(null));
+                scrollTo(0, false);
+                return;
+            }
+            SearchIndex index = getSearchIndex();
+            String previousKeyword = lastIndexedKeyword;
+            int[] previousMatches = lastMatches;
+            searchTask = SEARCH_EXECUTOR.submit(() -> {
+                try {
+                    searchInBackground(generation, index, keyword, previousKeyword, previousMatches);
+                } catch (Throwable throwable) {
+                    ClothConfigInitializer.LOGGER.error("Failed to search dropdown selections", throwable);
+                }
+            });
+        }
+        
+        /**
+         * Completes the search of the current text on the client thread, unless its complete results are shown already.
+         */
+        private void flushSearch() {
+            String searchString = getEntry().selectionElement.topRenderer.getSearchString();
+            if (!searchString.equals(lastSearchString)) {
+                lastSearchString = searchString;
+                lastSearchKeyword = getEntry().selectionElement.topRenderer.getSearchTerm();
+                search();
+            }
+            if (searchTask == null)
+                return;
+            searchTask.cancel(false);
+            searchTask = null;
+            int generation = ++searchGeneration;
+            String keyword = SearchIndex.normalize(this.lastSearchKeyword.getString());
+            SearchIndex index = getSearchIndex();
+            int[] matches = findMatches(generation, index, keyword, lastIndexedKeyword, lastMatches, false);
+            applyMatches(generation, keyword, matches, scoreMatches(index, keyword, matches), true);
+        }
+        
+        /**
+         * @return whether {@link #cells} is still the view of the cells of every selection, subclasses may have filled it themselves
+         */
+        private boolean hasLazyCells() {
+            return cells instanceof CopyOnWriteView && !((CopyOnWriteView<?>) cells).isCopied();
+        }
+        
+        /**
+         * Scans the cells one by one on the client thread, for subclasses that filled or modified {@link #cells} themselves.
+         */
+        private void searchCells() {
+            List<SelectionCellElement<R>> matches = Lists.newArrayList();
+            String keyword = SearchIndex.normalize(this.lastSearchKeyword.getString());
+            if (!isSuggestionMode() || keyword.isEmpty()) {
+                matches.addAll(cells);
+            } else {
+                List<SelectionCellElement<R>> unkeyed = Lists.newArrayList();
                 for (SelectionCellElement<R> cell : cells) {
                     Text key = cell.getSearchKey();
-                    if (key == null || key.getString().toLowerCase().contains(keyword))
-                        currentElements.add(cell);
+                    if (key == null)
+                        unkeyed.add(cell);
+                    else if (SearchIndex.normalize(key.getString()).contains(keyword))
+                        matches.add(cell);
                 }
-                if (!keyword.isEmpty()) {
-                    Comparator<SelectionCellElement<?>> c = Comparator.comparingDouble(i -> i.getSearchKey() == null ? Double.MAX_VALUE : similarity(i.getSearchKey().getString(), keyword));
-                    currentElements.sort(c.reversed());
+                matches.sort(Comparator.comparingDouble((SelectionCellElement<R> cell) -> rankingScore(SearchIndex.normalize(cell.getSearchKey().getString()), keyword)).reversed());
+                matches.addAll(unkeyed);
+            }
+            currentElements = matches;
+            if (isSuggestionMode())
+                scrollTo(0, false);
+        }
+        
+        private void searchInBackground(int generation, SearchIndex index, String keyword, @Nullable String previousKeyword, @Nullable int[] previousMatches) {
+            int[] matches = findMatches(generation, index, keyword, previousKeyword, previousMatches, true);
+            if (matches != null)
+                showMatches(generation, index, keyword, matches, true);
+        }
+        
+        /**
+         * @param streamed whether to show the first page of a long search and stop once a newer search started, which then returns {@code null}
+         */
+        @Nullable
+        private int[] findMatches(int generation, SearchIndex index, String keyword, @Nullable String previousKeyword, @Nullable int[] previousMatches, boolean streamed) {
+            // A keyword extending the previous one only narrows the previous matches
+            boolean refine = previousKeyword != null && previousMatches != null && keyword.contains(previousKeyword);
+            int[] candidates = refine ? previousMatches : index.getCandidates(keyword);
+            IntArrayList matches = new IntArrayList();
+            for (int i = 0; i < candidates.length; i++) {
+                if (streamed && i % SEARCH_CHUNK == 0 && i > 0) {
+                    if (generation != searchGeneration)
+                        return null;
+                    if (i == SEARCH_CHUNK)
+                        showMatches(generation, index, keyword, matches.toIntArray(), false);
                 }
+                if (index.matches(candidates[i], keyword))
+                    matches.add(candidates[i]);
+            }
+            return matches.size() == candidates.length ? candidates : matches.toIntArray();
+        }
+        
+        private double[] scoreMatches(SearchIndex index, String keyword, int[] matches) {
+            double[] scores = new double[matches.length];
+            for (int i = 0; i < scores.length; i++) {
+                String key = index.getKey(matches[i]);
+                scores[i] = key == null ? Double.MAX_VALUE : rankingScore(key, keyword);
+            }
+            return scores;
+        }
+        
+        private void showMatches(int generation, SearchIndex index, String keyword, int[] matches, boolean complete) {
+            double[] scores = scoreMatches(index, keyword, matches);
+            MinecraftClient.getInstance().execute(() -> applyMatches(generation, keyword, matches, scores, complete));
+        }
+        
+        private void applyMatches(int generation, String keyword, int[] matches, double[] scores, boolean complete) {
+            if (generation != searchGeneration)
+                return;
+            // Only the cells scrolled into view get ranked
+            currentElements = new CopyOnWriteView<>(new RankedList<>(new CellView(matches), scores));
+            if (shownGeneration != generation) {
+                shownGeneration = generation;
                 scrollTo(0, false);
-            } else {
-                currentElements.clear();
-                currentElements.addAll(cells);
+            }
+            if (complete) {
+                lastIndexedKeyword = keyword;
+                lastMatches = matches;
+                searchTask = null;
             }
         }
         
+        /**
+         * Ranks a matched key against the keyword, higher first. Every matched key contains the keyword,
+         * so their edit distance is exactly the length difference and {@link #similarity(String, String)} reduces to the ratio of the lengths.
+         * Subclasses overriding {@link #similarity(String, String)} or {@link #editDistance(String, String)} are ranked by {@link #similarity(String, String)} instead.
+         * May be called on the search thread.
+         *
+         * @param key     the normalized key, containing {@code keyword}
+         * @param keyword the normalized, non empty keyword
+         */
+        protected double rankingScore(String key, String keyword) {
+            if (customSimilarity)
+                return similarity(key, keyword);
+            return keyword.length() / (double) key.length();
+        }
+        
+        private static boolean overridesSimilarity(Class<?> type) {
+            for (; type != DefaultDropdownMenuElement.class; type = type.getSuperclass()) {
+                try {
+                    type.getDeclaredMethod("similarity", String.class, String.class);
+                    return true;
+                } catch (NoSuchMethodException ignored) {
+                }
+                try {
+                    type.getDeclaredMethod("editDistance", String.class, String.class);
+                    return true;
+                } catch (NoSuchMethodException ignored) {
+                }
+            }
+            return false;
+        }
+        
+        /**
+         * Only used for ranking when overridden, see {@link #rankingScore(String, String)}.
+         */
         protected int editDistance(String s1, String s2) {
             s1 = s1.toLowerCase();
             s2 = s2.toLowerCase();
@@ -351,6 +647,9 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
             return costs[s2.length()];
         }
         
+        /**
+         * Only used for ranking when this or {@link #editDistance(String, String)} is overridden, see {@link #rankingScore(String, String)}.
+         */
         protected double similarity(String s1, String s2) {
             String longer = s1, shorter = s2;
             if (s1.length() < s2.length()) { // longer should always have greater length
@@ -366,7 +665,9 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
         
         @Override
         public void render(MatrixStack matrices, int mouseX, int mouseY, Rectangle rectangle, float delta) {
-            if (!getEntry().selectionElement.topRenderer.getSearchTerm().equals(lastSearchKeyword)) {
+            String searchString = getEntry().selectionElement.topRenderer.getSearchString();
+            if (!searchString.equals(lastSearchString)) {
+                lastSearchString = searchString;
                 lastSearchKeyword = getEntry().selectionElement.topRenderer.getSearchTerm();
                 search();
             }
@@ -391,14 +692,24 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
             RenderSystem.translatef(0, 0, 300f);
             
             ScissorsHandler.INSTANCE.scissor(new Rectangle(lastRectangle.x, lastRectangle.y + lastRectangle.height + 1, cWidth - 6, last10Height - 1));
-            double yy = lastRectangle.y + lastRectangle.height - scroll;
-            for (SelectionCellElement<R> cell : currentElements) {
-                if (yy + getCellCreator().getCellHeight() >= lastRectangle.y + lastRectangle.height && yy <= lastRectangle.y + lastRectangle.height + last10Height + 1)
-                    cell.render(matrices, mouseX, mouseY, lastRectangle.x, (int) yy, getMaxScrollPosition() > 6 ? getCellCreator().getCellWidth() - 6 : getCellCreator().getCellWidth(), getCellCreator().getCellHeight(), delta);
-                else
+            int cellHeight = getCellCreator().getCellHeight();
+            // Only visit the cells in view, which keeps the ranking of the others lazy
+            int first = Math.max(0, (int) Math.ceil((scroll - cellHeight) / cellHeight));
+            int last = Math.min(currentElements.size() - 1, (int) Math.floor((scroll + last10Height + 1) / cellHeight));
+            List<SelectionCellElement<R>> rendered = Lists.newArrayListWithCapacity(Math.max(0, last - first + 1));
+            for (int i = first; i <= last; i++) {
+                SelectionCellElement<R> cell = currentElements.get(i);
+                double yy = lastRectangle.y + lastRectangle.height - scroll + i * cellHeight;
+                cell.render(matrices, mouseX, mouseY, lastRectangle.x, (int) yy, getMaxScrollPosition() > 6 ? getCellCreator().getCellWidth() - 6 : getCellCreator().getCellWidth(), cellHeight, delta);
+                rendered.add(cell);
+            }
+            for (SelectionCellElement<R> cell : renderedCells) {
+                if (!rendered.contains(cell)) {
                     cell.dontRender(matrices, delta);
-                yy += getCellCreator().getCellHeight();
+                    releaseCell(cell);
+                }
             }
+            renderedCells = rendered;
             ScissorsHandler.INSTANCE.removeLastScissor();
             
             if (currentElements.isEmpty()) {
@@ -515,10 +826,40 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
                 scroll = target;
         }
         
+        /**
+         * Only the cells in the drop box take input, the others may not even exist yet.
+         */
         @Override
         public List<SelectionCellElement<R>> children() {
+            return renderedCells;
+        }
+        
+        /**
+         * Completes a pending search of the current text first, so the suggestions always match the text as typed.
+         */
+        @Override
+        public List<SelectionCellElement<R>> getSuggestions() {
+            flushSearch();
             return currentElements;
         }
+        
+        private class CellView extends AbstractList<SelectionCellElement<R>> implements RandomAccess {
+            @Nullable private final int[] indices;
+            
+            private CellView(@Nullable int[] indices) {
+                this.indices = indices;
+            }
+            
+            @Override
+            public SelectionCellElement<R> get(int index) {
+                return getCell(indices == null ? index : indices[index]);
+            }
+            
+            @Override
+            public int size() {
+                return indices == null ? getSelections().size() : indices.length;
+            }
+        }
     }
     
     public static abstract class SelectionCellCreator<R> {
@@ -531,6 +872,30 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
         public int getCellWidth() {
             return 132;
         }
+        
+        /**
+         * Called on the client thread when the search index is built.
+         *
+         * @return the search key of the cell {@code selection} would get, creators should override this to avoid creating that cell
+         */
+        @Nullable
+        public Text getSearchKey(R selection) {
+            return create(selection).getSearchKey();
+        }
+        
+        /**
+         * @return whether {@code cell} can be handed to {@link #recycle(SelectionCellElement, Object)} once it left the drop box
+         */
+        public boolean isRecyclable(SelectionCellElement<R> cell) {
+            return false;
+        }
+        
+        /**
+         * @return {@code cell} showing {@code selection} instead, only called with cells accepted by {@link #isRecyclable(SelectionCellElement)}
+         */
+        public SelectionCellElement<R> recycle(SelectionCellElement<R> cell, R selection) {
+            return create(selection);
+        }
     }
     
     public static class DefaultSelectionCellCreator<R> extends SelectionCellCreator<R> {
@@ -549,6 +914,28 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
             return new DefaultSelectionCellElement<>(selection, toTextFunction);
         }
         
+        @Nullable
+        @Override
+        public Text getSearchKey(R selection) {
+            return toTextFunction.apply(selection);
+        }
+        
+        /**
+         * Subclasses of {@link DefaultSelectionCellElement} may hold state derived from their selection, so only the plain cells are recycled.
+         */
+        @Override
+        public boolean isRecyclable(SelectionCellElement<R> cell) {
+            return cell.getClass() == DefaultSelectionCellElement.class;
+        }
+        
+        @Override
+        public SelectionCellElement<R> recycle(SelectionCellElement<R> cell, R selection) {
+            DefaultSelectionCellElement<R> recycled = (DefaultSelectionCellElement<R>) cell;
+            recycled.r = selection;
+            recycled.rendering = false;
+            return recycled;
+        }
+        
         @Override
         public int getCellHeight() {
             return 14;
@@ -651,6 +1038,15 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
         
         public abstract Text getSearchTerm();
         
+        /**
+         * Compared every frame to detect a new search, top cells should override this to avoid creating a text each time.
+         *
+         * @return the string of {@link #getSearchTerm()}
+         */
+        public String getSearchString() {
+            return getSearchTerm().getString();
+        }
+        
         public boolean isEdited() {
             return getConfigError().isPresent();
         }
@@ -682,7 +1078,7 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
         }
         
         public void selectFirstRecommendation() {
-            List<SelectionCellElement<R>> children = getParent().selectionElement.menu.children();
+            List<SelectionCellElement<R>> children = getParent().selectionElement.menu.getSuggestions();
             for (SelectionCellElement<R> child : children) {
                 if (child.getSelection() != null) {
                     setValue(child.getSelection());
@@ -731,6 +1127,10 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
             textFieldWidget.setHasBorder(false);
             textFieldWidget.setMaxLength(999999);
             textFieldWidget.setText(toTextFunction.apply(value).getString());
+            textFieldWidget.setChangedListener(s -> {
+                if (getParent() != null)
+                    getParent().markValueChanged();
+            });
         }
         
         @Override
@@ -766,6 +1166,11 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
             return new LiteralText(textFieldWidget.getText());
         }
         
+        @Override
+        public String getSearchString() {
+            return textFieldWidget.getText();
+        }
+        
         @Override
         public Optional<Text> getError() {
             if (toObjectFunction.apply(textFieldWidget.getText()) != null)
@@ -1,11 +1,16 @@
 package me.shedaniel.clothconfig2.gui.entries;
 
+import me.shedaniel.clothconfig2.api.ConstraintTexts;
+import me.shedaniel.clothconfig2.api.constraint.Constraint;
+import me.shedaniel.clothconfig2.api.constraint.RangeConstraint;
+import me.shedaniel.clothconfig2.impl.ParsedTextCache;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.client.gui.widget.TextFieldWidget;
 import net.minecraft.text.Text;
 import net.minecraft.text.TranslatableText;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -26,7 +31,9 @@ public class FloatListEntry extends TextFieldListEntry<Float> {
         
         return stringBuilder_1.toString();
     };
+    private final ParsedTextCache<Float> parsedText = ParsedTextCache.ofFloat();
     private float minimum, maximum;
+    @Nullable private RangeConstraint<Float> range;
     private Consumer<Float> saveConsumer;
     
     @ApiStatus.Internal
@@ -60,15 +67,11 @@ public class FloatListEntry extends TextFieldListEntry<Float> {
     
     @Override
     protected void textFieldPreRender(TextFieldWidget widget) {
-        try {
-            double i = Float.parseFloat(textFieldWidget.getText());
-            if (i < minimum || i > maximum)
-                widget.setEditableColor(16733525);
-            else
-                widget.setEditableColor(14737632);
-        } catch (NumberFormatException ex) {
+        Float i = parsedText.parse(textFieldWidget.getText());
+        if (i == null || !getRange().contains(i))
             widget.setEditableColor(16733525);
-        }
+        else
+            widget.setEditableColor(14737632);
     }
     
     @Override
@@ -78,11 +81,30 @@ public class FloatListEntry extends TextFieldListEntry<Float> {
     
     public FloatListEntry setMinimum(float minimum) {
         this.minimum = minimum;
+        this.range = null;
         return this;
     }
     
     public FloatListEntry setMaximum(float maximum) {
         this.maximum = maximum;
+        this.range = null;
+        return this;
+    }
+    
+    @ApiStatus.Internal
+    public RangeConstraint<Float> getRange() {
+        if (range == null)
+            range = Constraint.range(minimum, maximum);
+        return range;
+    }
+    
+    /**
+     * Sets both bounds from {@code range}, a missing bound falls back to the default one.
+     */
+    public FloatListEntry setRange(RangeConstraint<Float> range) {
+        this.minimum = range.getMinimum() != null ? range.getMinimum() : -Float.MAX_VALUE;
+        this.maximum = range.getMaximum() != null ? range.getMaximum() : Float.MAX_VALUE;
+        this.range = null;
         return this;
     }
     
@@ -94,24 +116,16 @@ public class FloatListEntry extends TextFieldListEntry<Float> {
     
     @Override
     public Float getValue() {
-        try {
-            return Float.valueOf(textFieldWidget.getText());
-        } catch (Exception e) {
-            return 0f;
-        }
+        Float i = parsedText.parse(textFieldWidget.getText());
+        return i == null ? 0f : i;
     }
     
     @Override
     public Optional<Text> getError() {
-        try {
-            float i = Float.parseFloat(textFieldWidget.getText());
-            if (i > maximum)
-                return Optional.of(new TranslatableText("text.cloth-config.error.too_large", maximum));
-            else if (i < minimum)
-                return Optional.of(new TranslatableText("text.cloth-config.error.too_small", minimum));
-        } catch (NumberFormatException ex) {
+        Float i = parsedText.parse(textFieldWidget.getText());
+        if (i == null)
             return Optional.of(new TranslatableText("text.cloth-config.error.not_valid_number_float"));
-        }
-        return super.getError();
+        Optional<Text> error = getRange().check(i).map(ConstraintTexts::toText);
+        return error.isPresent() ? error : super.getError();
     }
 }
@@ -1,5 +1,9 @@
 package me.shedaniel.clothconfig2.gui.entries;
 
+import me.shedaniel.clothconfig2.api.ConstraintTexts;
+import me.shedaniel.clothconfig2.api.constraint.Constraint;
+import me.shedaniel.clothconfig2.api.constraint.RangeConstraint;
+import me.shedaniel.clothconfig2.impl.ParsedTextCache;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.text.Text;
@@ -17,6 +21,7 @@ import java.util.function.Supplier;
 public class FloatListListEntry extends AbstractTextFieldListListEntry<Float, FloatListListEntry.FloatListCell, FloatListListEntry> {
     
     private float minimum, maximum;
+    @Nullable private RangeConstraint<Float> range;
     
     @ApiStatus.Internal
     @Deprecated
@@ -40,11 +45,30 @@ public class FloatListListEntry extends AbstractTextFieldListListEntry<Float, Fl
     
     public FloatListListEntry setMaximum(float maximum) {
         this.maximum = maximum;
+        this.range = null;
         return this;
     }
     
     public FloatListListEntry setMinimum(float minimum) {
         this.minimum = minimum;
+        this.range = null;
+        return this;
+    }
+    
+    @ApiStatus.Internal
+    public RangeConstraint<Float> getRange() {
+        if (range == null)
+            range = Constraint.range(minimum, maximum);
+        return range;
+    }
+    
+    /**
+     * Sets both bounds from {@code range}, a missing bound falls back to the default one.
+     */
+    public FloatListListEntry setRange(RangeConstraint<Float> range) {
+        this.minimum = range.getMinimum() != null ? range.getMinimum() : Float.NEGATIVE_INFINITY;
+        this.maximum = range.getMaximum() != null ? range.getMaximum() : Float.POSITIVE_INFINITY;
+        this.range = null;
         return this;
     }
     
@@ -54,6 +78,7 @@ public class FloatListListEntry extends AbstractTextFieldListListEntry<Float, Fl
     }
     
     public static class FloatListCell extends AbstractTextFieldListListEntry.AbstractTextFieldListCell<Float, FloatListCell, FloatListListEntry> {
+        private final ParsedTextCache<Float> parsedText = ParsedTextCache.ofFloat();
         
         public FloatListCell(Float value, FloatListListEntry listListEntry) {
             super(value, listListEntry);
@@ -74,25 +99,16 @@ public class FloatListListEntry extends AbstractTextFieldListListEntry<Float, Fl
         }
         
         public Float getValue() {
-            try {
-                return Float.valueOf(widget.getText());
-            } catch (NumberFormatException e) {
-                return 0f;
-            }
+            Float i = parsedText.parse(widget.getText());
+            return i == null ? 0f : i;
         }
         
         @Override
         public Optional<Text> getError() {
-            try {
-                float i = Float.parseFloat(widget.getText());
-                if (i > listListEntry.maximum)
-                    return Optional.of(new TranslatableText("text.cloth-config.error.too_large", listListEntry.maximum));
-                else if (i < listListEntry.minimum)
-                    return Optional.of(new TranslatableText("text.cloth-config.error.too_small", listListEntry.minimum));
-            } catch (NumberFormatException ex) {
+            Float i = parsedText.parse(widget.getText());
+            if (i == null)
                 return Optional.of(new TranslatableText("text.cloth-config.error.not_valid_number_float"));
-            }
-            return Optional.empty();
+            return listListEntry.getRange().check(i).map(ConstraintTexts::toText);
         }
     }
 }
@@ -1,11 +1,16 @@
 package me.shedaniel.clothconfig2.gui.entries;
 
+import me.shedaniel.clothconfig2.api.ConstraintTexts;
+import me.shedaniel.clothconfig2.api.constraint.Constraint;
+import me.shedaniel.clothconfig2.api.constraint.RangeConstraint;
+import me.shedaniel.clothconfig2.impl.ParsedTextCache;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.client.gui.widget.TextFieldWidget;
 import net.minecraft.text.Text;
 import net.minecraft.text.TranslatableText;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -26,7 +31,9 @@ public class IntegerListEntry extends TextFieldListEntry<Integer> {
         
         return builder.toString();
     };
+    private final ParsedTextCache<Integer> parsedText = ParsedTextCache.ofInt();
     private int minimum, maximum;
+    @Nullable private RangeConstraint<Integer> range;
     private Consumer<Integer> saveConsumer;
     
     @ApiStatus.Internal
@@ -60,15 +67,11 @@ public class IntegerListEntry extends TextFieldListEntry<Integer> {
     
     @Override
     protected void textFieldPreRender(TextFieldWidget widget) {
-        try {
-            double i = Integer.parseInt(textFieldWidget.getText());
-            if (i < minimum || i > maximum)
-                widget.setEditableColor(16733525);
-            else
-                widget.setEditableColor(14737632);
-        } catch (NumberFormatException ex) {
+        Integer i = parsedText.parse(textFieldWidget.getText());
+        if (i == null || !getRange().contains(i))
             widget.setEditableColor(16733525);
-        }
+        else
+            widget.setEditableColor(14737632);
     }
     
     @Override
@@ -76,6 +79,23 @@ public class IntegerListEntry extends TextFieldListEntry<Integer> {
         return getDefaultValue().isPresent() && text.equals(defaultValue.get().toString());
     }
     
+    @ApiStatus.Internal
+    public RangeConstraint<Integer> getRange() {
+        if (range == null)
+            range = Constraint.range(minimum, maximum);
+        return range;
+    }
+    
+    /**
+     * Sets both bounds from {@code range}, a missing bound falls back to the default one.
+     */
+    public IntegerListEntry setRange(RangeConstraint<Integer> range) {
+        this.minimum = range.getMinimum() != null ? range.getMinimum() : -Integer.MAX_VALUE;
+        this.maximum = range.getMaximum() != null ? range.getMaximum() : Integer.MAX_VALUE;
+        this.range = null;
+        return this;
+    }
+    
     @Override
     public void save() {
         if (saveConsumer != null)
@@ -84,34 +104,28 @@ public class IntegerListEntry extends TextFieldListEntry<Integer> {
     
     public IntegerListEntry setMaximum(int maximum) {
         this.maximum = maximum;
+        this.range = null;
         return this;
     }
     
     public IntegerListEntry setMinimum(int minimum) {
         this.minimum = minimum;
+        this.range = null;
         return this;
     }
     
     @Override
     public Integer getValue() {
-        try {
-            return Integer.valueOf(textFieldWidget.getText());
-        } catch (Exception e) {
-            return 0;
-        }
+        Integer i = parsedText.parse(textFieldWidget.getText());
+        return i == null ? 0 : i;
     }
     
     @Override
     public Optional<Text> getError() {
-        try {
-            int i = Integer.parseInt(textFieldWidget.getText());
-            if (i > maximum)
-                return Optional.of(new TranslatableText("text.cloth-config.error.too_large", maximum));
-            else if (i < minimum)
-                return Optional.of(new TranslatableText("text.cloth-config.error.too_small", minimum));
-        } catch (NumberFormatException ex) {
+        Integer i = parsedText.parse(textFieldWidget.getText());
+        if (i == null)
             return Optional.of(new TranslatableText("text.cloth-config.error.not_valid_number_int"));
-        }
-        return super.getError();
+        Optional<Text> error = getRange().check(i).map(ConstraintTexts::toText);
+        return error.isPresent() ? error : super.getError();
     }
 }
@@ -1,5 +1,9 @@
 package me.shedaniel.clothconfig2.gui.entries;
 
+import me.shedaniel.clothconfig2.api.ConstraintTexts;
+import me.shedaniel.clothconfig2.api.constraint.Constraint;
+import me.shedaniel.clothconfig2.api.constraint.RangeConstraint;
+import me.shedaniel.clothconfig2.impl.ParsedTextCache;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.text.Text;
@@ -17,6 +21,7 @@ import java.util.function.Supplier;
 public class IntegerListListEntry extends AbstractTextFieldListListEntry<Integer, IntegerListListEntry.IntegerListCell, IntegerListListEntry> {
     
     private int minimum, maximum;
+    @Nullable private RangeConstraint<Integer> range;
     
     @ApiStatus.Internal
     @Deprecated
@@ -40,11 +45,30 @@ public class IntegerListListEntry extends AbstractTextFieldListListEntry<Integer
     
     public IntegerListListEntry setMaximum(int maximum) {
         this.maximum = maximum;
+        this.range = null;
         return this;
     }
     
     public IntegerListListEntry setMinimum(int minimum) {
         this.minimum = minimum;
+        this.range = null;
+        return this;
+    }
+    
+    @ApiStatus.Internal
+    public RangeConstraint<Integer> getRange() {
+        if (range == null)
+            range = Constraint.range(minimum, maximum);
+        return range;
+    }
+    
+    /**
+     * Sets both bounds from {@code range}, a missing bound falls back to the default one.
+     */
+    public IntegerListListEntry setRange(RangeConstraint<Integer> range) {
+        this.minimum = range.getMinimum() != null ? range.getMinimum() : Integer.MIN_VALUE;
+        this.maximum = range.getMaximum() != null ? range.getMaximum() : Integer.MAX_VALUE;
+        this.range = null;
         return this;
     }
     
@@ -54,6 +78,7 @@ public class IntegerListListEntry extends AbstractTextFieldListListEntry<Integer
     }
     
     public static class IntegerListCell extends AbstractTextFieldListListEntry.AbstractTextFieldListCell<Integer, IntegerListCell, IntegerListListEntry> {
+        private final ParsedTextCache<Integer> parsedText = ParsedTextCache.ofInt();
         
         public IntegerListCell(Integer value, IntegerListListEntry listListEntry) {
             super(value, listListEntry);
@@ -74,25 +99,16 @@ public class IntegerListListEntry extends AbstractTextFieldListListEntry<Integer
         }
         
         public Integer getValue() {
-            try {
-                return Integer.valueOf(widget.getText());
-            } catch (NumberFormatException e) {
-                return 0;
-            }
+            Integer i = parsedText.parse(widget.getText());
+            return i == null ? 0 : i;
         }
         
         @Override
         public Optional<Text> getError() {
-            try {
-                int i = Integer.parseInt(widget.getText());
-                if (i > listListEntry.maximum)
-                    return Optional.of(new TranslatableText("text.cloth-config.error.too_large", listListEntry.maximum));
-                else if (i < listListEntry.minimum)
-                    return Optional.of(new TranslatableText("text.cloth-config.error.too_small", listListEntry.minimum));
-            } catch (NumberFormatException ex) {
+            Integer i = parsedText.parse(widget.getText());
+            if (i == null)
                 return Optional.of(new TranslatableText("text.cloth-config.error.not_valid_number_int"));
-            }
-            return Optional.empty();
+            return listListEntry.getRange().check(i).map(ConstraintTexts::toText);
         }
     }
     
@@ -91,6 +91,7 @@ public class IntegerSliderEntry extends TooltipListEntry<Integer> {
         sliderWidget.setValue((MathHelper.clamp(value, minimum, maximum) - minimum) / (double) Math.abs(maximum - minimum));
         this.value.set(Math.min(Math.max(value, minimum), maximum));
         sliderWidget.updateMessage();
+        markValueChanged();
     }
     
     @Override
@@ -153,7 +154,9 @@ public class IntegerSliderEntry extends TooltipListEntry<Integer> {
         
         @Override
         protected void applyValue() {
-            IntegerSliderEntry.this.value.set((int) (minimum + Math.abs(maximum - minimum) * value));
+            int newValue = (int) (minimum + Math.abs(maximum - minimum) * value);
+            if (IntegerSliderEntry.this.value.getAndSet(newValue) != newValue)
+                IntegerSliderEntry.this.markValueChanged();
         }
         
         @Override
@@ -43,7 +43,7 @@ public class KeyCodeEntry extends TooltipListEntry<ModifierKeyCode> {
             getConfigScreen().setFocusedBinding(this);
         });
         this.resetButton = new ButtonWidget(0, 0, MinecraftClient.getInstance().textRenderer.getWidth(resetButtonKey) + 6, 20, resetButtonKey, widget -> {
-            KeyCodeEntry.this.value = getDefaultValue().orElse(null).copy();
+            setValue(getDefaultValue().orElse(null).copy());
             getConfigScreen().setFocusedBinding(null);
         });
         this.saveConsumer = saveConsumer;
@@ -92,6 +92,7 @@ public class KeyCodeEntry extends TooltipListEntry<ModifierKeyCode> {
     
     public void setValue(ModifierKeyCode value) {
         this.value = value;
+        markValueChanged();
     }
     
     @Override
@@ -0,0 +1,208 @@
+package me.shedaniel.clothconfig2.gui.entries;
+
+import me.shedaniel.clothconfig2.api.AbstractConfigListEntry;
+import me.shedaniel.clothconfig2.api.Expandable;
+import me.shedaniel.clothconfig2.gui.widget.DynamicEntryListWidget;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.gui.Element;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Placeholder for an entry that is only built once it is scrolled into view.
+ * The built entry is released again when it leaves the viewport unless it holds an edit,
+ * an error or an expanded state, so only the visible and the modified entries stay in memory.
+ *
+ * @param <T> the configuration object type
+ */
+@SuppressWarnings({"rawtypes", "unchecked", "deprecation"})
+@Environment(EnvType.CLIENT)
+public class LazyListEntry<T> extends AbstractConfigListEntry<T> {
+    
+    @NotNull private final Supplier<? extends AbstractConfigListEntry<T>> entryFactory;
+    @Nullable private AbstractConfigListEntry<T> entry;
+    /**
+     * Answer {@link #getValue()} and {@link #getDefaultValue()} while the entry isn't built, without these the entry is built for them.
+     */
+    @Nullable private Supplier<T> originalValue;
+    @Nullable private Supplier<Optional<T>> defaultValue;
+    private int itemHeight = 24;
+    private boolean editable = true;
+    
+    @ApiStatus.Internal
+    public LazyListEntry(Text fieldName, @NotNull Supplier<? extends AbstractConfigListEntry<T>> entryFactory) {
+        super(fieldName, false);
+        this.entryFactory = Objects.requireNonNull(entryFactory);
+    }
+    
+    /**
+     * @param originalValue the value the built entry starts with
+     * @param defaultValue  the default value of the built entry, or {@code null} for none
+     */
+    @ApiStatus.Internal
+    public LazyListEntry(Text fieldName, @NotNull Supplier<T> originalValue, @Nullable Supplier<T> defaultValue, @NotNull Supplier<? extends AbstractConfigListEntry<T>> entryFactory) {
+        this(fieldName, entryFactory);
+        this.originalValue = Objects.requireNonNull(originalValue);
+        this.defaultValue = () -> Optional.ofNullable(defaultValue).map(Supplier::get);
+    }
+    
+    /**
+     * @return the built entry, building it if it is not built yet
+     */
+    @NotNull
+    public AbstractConfigListEntry<T> getEntry() {
+        if (entry == null) {
+            entry = Objects.requireNonNull(entryFactory.get());
+            entry.setScreen(getConfigScreen());
+            entry.setParent((DynamicEntryListWidget) getParent());
+            if (!editable)
+                entry.setEditable(false);
+            // Dependents are registered on this placeholder, which outlives the built entry
+            entry.setContainingEntry(this);
+            setFocused(entry);
+        }
+        return entry;
+    }
+    
+    public boolean isBuilt() {
+        return entry != null;
+    }
+    
+    protected boolean canRelease(AbstractConfigListEntry<T> entry) {
+        return !entry.isEdited() && !entry.getConfigError().isPresent() && !(entry instanceof Expandable && ((Expandable) entry).isExpanded());
+    }
+    
+    @Override
+    public void render(MatrixStack matrices, int index, int y, int x, int entryWidth, int entryHeight, int mouseX, int mouseY, boolean isHovered, float delta) {
+        AbstractConfigListEntry<T> entry = getEntry();
+        // The screen is set again after every re-init, the built entry would keep the old one
+        entry.setScreen(getConfigScreen());
+        entry.setParent((DynamicEntryListWidget) getParent());
+        entry.render(matrices, index, y, x, entryWidth, entryHeight, mouseX, mouseY, isHovered, delta);
+        int height = entry.getItemHeight();
+        if (height != itemHeight) {
+            itemHeight = height;
+            invalidateHeight();
+        }
+    }
+    
+    @Override
+    public void dontRender(MatrixStack matrices, float delta) {
+        super.dontRender(matrices, delta);
+        if (entry != null) {
+            entry.dontRender(matrices, delta);
+            if (canRelease(entry)) {
+                // Keep the last measured height so releasing doesn't move the rows below
+                itemHeight = entry.getItemHeight();
+                if (originalValue == null) {
+                    // Unedited, so the value stays the one the entry was built with
+                    T value = entry.getValue();
+                    Optional<T> defaults = entry.getDefaultValue();
+                    this.originalValue = () -> value;
+                    this.defaultValue = () -> defaults;
+                }
+                entry = null;
+                setFocused(null);
+            }
+        }
+    }
+    
+    @Override
+    public void lateRender(MatrixStack matrices, int mouseX, int mouseY, float delta) {
+        if (entry != null)
+            entry.lateRender(matrices, mouseX, mouseY, delta);
+    }
+    
+    @Override
+    public void updateSelected(boolean isSelected) {
+        if (entry != null)
+            entry.updateSelected(isSelected);
+    }
+    
+    @Override
+    public int getItemHeight() {
+        return entry != null ? entry.getItemHeight() : itemHeight;
+    }
+    
+    @Override
+    public int getMorePossibleHeight() {
+        return entry != null ? entry.getMorePossibleHeight() : -1;
+    }
+    
+    @Override
+    public boolean mouseScrolled(double mouseX, double mouseY, double amount) {
+        return entry != null && entry.mouseScrolled(mouseX, mouseY, amount);
+    }
+    
+    @Override
+    public List<? extends Element> children() {
+        return entry != null ? Collections.singletonList(entry) : Collections.emptyList();
+    }
+    
+    @Override
+    public boolean isEdited() {
+        return entry != null && entry.isEdited();
+    }
+    
+    @Override
+    public boolean isValidating() {
+        return entry != null && entry.isValidating();
+    }
+    
+    @Override
+    public boolean isRequiresRestart() {
+        return entry != null && entry.isRequiresRestart();
+    }
+    
+    @Override
+    public void setRequiresRestart(boolean requiresRestart) {
+        if (entry != null)
+            entry.setRequiresRestart(requiresRestart);
+    }
+    
+    @Override
+    public void setEditable(boolean editable) {
+        super.setEditable(editable);
+        this.editable = editable;
+        if (entry != null)
+            entry.setEditable(editable);
+    }
+    
+    @Override
+    public Optional<Text> getError() {
+        return entry != null ? entry.getConfigError() : Optional.empty();
+    }
+    
+    @Override
+    public T getValue() {
+        if (entry == null && originalValue != null)
+            return originalValue.get();
+        return getEntry().getValue();
+    }
+    
+    @Override
+    public Optional<T> getDefaultValue() {
+        if (entry == null && defaultValue != null)
+            return defaultValue.get();
+        return getEntry().getDefaultValue();
+    }
+    
+    /**
+     * Entries that were never built, or were released, hold the original value and don't need saving.
+     */
+    @Override
+    public void save() {
+        if (entry != null)
+            entry.save();
+    }
+}
@@ -1,11 +1,16 @@
 package me.shedaniel.clothconfig2.gui.entries;
 
+import me.shedaniel.clothconfig2.api.ConstraintTexts;
+import me.shedaniel.clothconfig2.api.constraint.Constraint;
+import me.shedaniel.clothconfig2.api.constraint.RangeConstraint;
+import me.shedaniel.clothconfig2.impl.ParsedTextCache;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.client.gui.widget.TextFieldWidget;
 import net.minecraft.text.Text;
 import net.minecraft.text.TranslatableText;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -26,7 +31,9 @@ public class LongListEntry extends TextFieldListEntry<Long> {
         
         return stringBuilder_1.toString();
     };
+    private final ParsedTextCache<Long> parsedText = ParsedTextCache.ofLong();
     private long minimum, maximum;
+    @Nullable private RangeConstraint<Long> range;
     private Consumer<Long> saveConsumer;
     
     @ApiStatus.Internal
@@ -60,15 +67,28 @@ public class LongListEntry extends TextFieldListEntry<Long> {
     
     @Override
     protected void textFieldPreRender(TextFieldWidget widget) {
-        try {
-            double i = Long.parseLong(textFieldWidget.getText());
-            if (i < minimum || i > maximum)
-                widget.setEditableColor(16733525);
-            else
-                widget.setEditableColor(14737632);
-        } catch (NumberFormatException ex) {
+        Long i = parsedText.parse(textFieldWidget.getText());
+        if (i == null || !getRange().contains(i))
             widget.setEditableColor(16733525);
-        }
+        else
+            widget.setEditableColor(14737632);
+    }
+    
+    @ApiStatus.Internal
+    public RangeConstraint<Long> getRange() {
+        if (range == null)
+            range = Constraint.range(minimum, maximum);
+        return range;
+    }
+    
+    /**
+     * Sets both bounds from {@code range}, a missing bound falls back to the default one.
+     */
+    public LongListEntry setRange(RangeConstraint<Long> range) {
+        this.minimum = range.getMinimum() != null ? range.getMinimum() : -Long.MAX_VALUE;
+        this.maximum = range.getMaximum() != null ? range.getMaximum() : Long.MAX_VALUE;
+        this.range = null;
+        return this;
     }
     
     @Override
@@ -84,34 +104,28 @@ public class LongListEntry extends TextFieldListEntry<Long> {
     
     public LongListEntry setMinimum(long minimum) {
         this.minimum = minimum;
+        this.range = null;
         return this;
     }
     
     public LongListEntry setMaximum(long maximum) {
         this.maximum = maximum;
+        this.range = null;
         return this;
     }
     
     @Override
     public Long getValue() {
-        try {
-            return Long.valueOf(textFieldWidget.getText());
-        } catch (Exception e) {
-            return 0L;
-        }
+        Long i = parsedText.parse(textFieldWidget.getText());
+        return i == null ? 0L : i;
     }
     
     @Override
     public Optional<Text> getError() {
-        try {
-            long i = Long.parseLong(textFieldWidget.getText());
-            if (i > maximum)
-                return Optional.of(new TranslatableText("text.cloth-config.error.too_large", maximum));
-            else if (i < minimum)
-                return Optional.of(new TranslatableText("text.cloth-config.error.too_small", minimum));
-        } catch (NumberFormatException ex) {
+        Long i = parsedText.parse(textFieldWidget.getText());
+        if (i == null)
             return Optional.of(new TranslatableText("text.cloth-config.error.not_valid_number_long"));
-        }
-        return super.getError();
+        Optional<Text> error = getRange().check(i).map(ConstraintTexts::toText);
+        return error.isPresent() ? error : super.getError();
     }
 }
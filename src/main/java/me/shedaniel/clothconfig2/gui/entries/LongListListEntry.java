@@ -1,5 +1,9 @@
 package me.shedaniel.clothconfig2.gui.entries;
 
+import me.shedaniel.clothconfig2.api.ConstraintTexts;
+import me.shedaniel.clothconfig2.api.constraint.Constraint;
+import me.shedaniel.clothconfig2.api.constraint.RangeConstraint;
+import me.shedaniel.clothconfig2.impl.ParsedTextCache;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.text.Text;
@@ -17,6 +21,7 @@ import java.util.function.Supplier;
 public class LongListListEntry extends AbstractTextFieldListListEntry<Long, LongListListEntry.LongListCell, LongListListEntry> {
     
     private long minimum, maximum;
+    @Nullable private RangeConstraint<Long> range;
     
     @ApiStatus.Internal
     @Deprecated
@@ -40,11 +45,30 @@ public class LongListListEntry extends AbstractTextFieldListListEntry<Long, Long
     
     public LongListListEntry setMaximum(long maximum) {
         this.maximum = maximum;
+        this.range = null;
         return this;
     }
     
     public LongListListEntry setMinimum(long minimum) {
         this.minimum = minimum;
+        this.range = null;
+        return this;
+    }
+    
+    @ApiStatus.Internal
+    public RangeConstraint<Long> getRange() {
+        if (range == null)
+            range = Constraint.range(minimum, maximum);
+        return range;
+    }
+    
+    /**
+     * Sets both bounds from {@code range}, a missing bound falls back to the default one.
+     */
+    public LongListListEntry setRange(RangeConstraint<Long> range) {
+        this.minimum = range.getMinimum() != null ? range.getMinimum() : Long.MIN_VALUE;
+        this.maximum = range.getMaximum() != null ? range.getMaximum() : Long.MAX_VALUE;
+        this.range = null;
         return this;
     }
     
@@ -54,6 +78,7 @@ public class LongListListEntry extends AbstractTextFieldListListEntry<Long, Long
     }
     
     public static class LongListCell extends AbstractTextFieldListListEntry.AbstractTextFieldListCell<Long, LongListCell, LongListListEntry> {
+        private final ParsedTextCache<Long> parsedText = ParsedTextCache.ofLong();
         
         public LongListCell(Long value, LongListListEntry listListEntry) {
             super(value, listListEntry);
@@ -74,25 +99,16 @@ public class LongListListEntry extends AbstractTextFieldListListEntry<Long, Long
         }
         
         public Long getValue() {
-            try {
-                return Long.valueOf(widget.getText());
-            } catch (NumberFormatException e) {
-                return 0L;
-            }
+            Long i = parsedText.parse(widget.getText());
+            return i == null ? 0L : i;
         }
         
         @Override
         public Optional<Text> getError() {
-            try {
-                long l = Long.parseLong(widget.getText());
-                if (l > listListEntry.maximum)
-                    return Optional.of(new TranslatableText("text.cloth-config.error.too_large", listListEntry.maximum));
-                else if (l < listListEntry.minimum)
-                    return Optional.of(new TranslatableText("text.cloth-config.error.too_small", listListEntry.minimum));
-            } catch (NumberFormatException ex) {
+            Long l = parsedText.parse(widget.getText());
+            if (l == null)
                 return Optional.of(new TranslatableText("text.cloth-config.error.not_valid_number_long"));
-            }
-            return Optional.empty();
+            return listListEntry.getRange().check(l).map(ConstraintTexts::toText);
         }
     }
     
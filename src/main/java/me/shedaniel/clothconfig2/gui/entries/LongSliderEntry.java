@@ -91,6 +91,7 @@ public class LongSliderEntry extends TooltipListEntry<Long> {
         sliderWidget.setValue((MathHelper.clamp(value, minimum, maximum) - minimum) / (double) Math.abs(maximum - minimum));
         this.value.set(Math.min(Math.max(value, minimum), maximum));
         sliderWidget.updateMessage();
+        markValueChanged();
     }
     
     @Override
@@ -153,7 +154,9 @@ public class LongSliderEntry extends TooltipListEntry<Long> {
         
         @Override
         protected void applyValue() {
-            LongSliderEntry.this.value.set((long) (minimum + Math.abs(maximum - minimum) * value));
+            long newValue = (long) (minimum + Math.abs(maximum - minimum) * value);
+            if (LongSliderEntry.this.value.getAndSet(newValue) != newValue)
+                LongSliderEntry.this.markValueChanged();
         }
         
         @Override
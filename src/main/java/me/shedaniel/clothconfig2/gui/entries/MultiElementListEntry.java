@@ -4,6 +4,7 @@ import com.google.common.collect.Lists;
 import com.mojang.blaze3d.systems.RenderSystem;
 import me.shedaniel.clothconfig2.api.AbstractConfigListEntry;
 import me.shedaniel.clothconfig2.api.Expandable;
+import me.shedaniel.clothconfig2.gui.widget.DynamicEntryListWidget;
 import me.shedaniel.math.Rectangle;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
@@ -18,7 +19,6 @@ import net.minecraft.text.TranslatableText;
 import net.minecraft.util.Identifier;
 import org.jetbrains.annotations.ApiStatus;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -33,6 +33,8 @@ public class MultiElementListEntry<T> extends TooltipListEntry<T> implements Exp
     private MultiElementListEntry<T>.CategoryLabelWidget widget;
     private List<Element> children;
     private boolean expanded;
+    private int cachedItemHeight;
+    private int cachedLayoutGeneration = -1;
     
     @ApiStatus.Internal
     public MultiElementListEntry(Text categoryName, T object, List<AbstractConfigListEntry<?>> entries, boolean defaultExpanded) {
@@ -44,6 +46,16 @@ public class MultiElementListEntry<T> extends TooltipListEntry<T> implements Exp
         this.children = Lists.newArrayList(widget);
         this.children.addAll(entries);
         this.setReferenceProviderEntries((List) entries);
+        for (AbstractConfigListEntry<?> entry : entries)
+            entry.setContainingEntry(this);
+    }
+    
+    @Override
+    public boolean isValidating() {
+        for (AbstractConfigListEntry<?> entry : entries)
+            if (entry.isValidating())
+                return true;
+        return false;
     }
     
     @Override
@@ -121,13 +133,19 @@ public class MultiElementListEntry<T> extends TooltipListEntry<T> implements Exp
     
     @Override
     public int getItemHeight() {
+        DynamicEntryListWidget<?> parent = getParent();
+        if (parent != null && cachedLayoutGeneration == parent.getLayoutGeneration())
+            return cachedItemHeight;
+        int i = 24;
         if (expanded) {
-            int i = 24;
             for (AbstractConfigListEntry<?> entry : entries)
                 i += entry.getItemHeight();
-            return i;
         }
-        return 24;
+        if (parent != null) {
+            cachedItemHeight = i;
+            cachedLayoutGeneration = parent.getLayoutGeneration();
+        }
+        return i;
     }
     
     @Override
@@ -155,16 +173,15 @@ public class MultiElementListEntry<T> extends TooltipListEntry<T> implements Exp
     @Override
     public int getMorePossibleHeight() {
         if (!expanded) return -1;
-        List<Integer> list = new ArrayList<>();
         int i = 24;
+        int extent = 0;
         for (AbstractConfigListEntry<?> entry : entries) {
             i += entry.getItemHeight();
-            if (entry.getMorePossibleHeight() >= 0) {
-                list.add(i + entry.getMorePossibleHeight());
-            }
+            int morePossibleHeight = entry.getMorePossibleHeight();
+            if (morePossibleHeight >= 0)
+                extent = Math.max(extent, i + morePossibleHeight);
         }
-        list.add(i);
-        return list.stream().max(Integer::compare).orElse(0) - getItemHeight();
+        return Math.max(extent, i) - getItemHeight();
     }
     
     @Override
@@ -194,7 +211,10 @@ public class MultiElementListEntry<T> extends TooltipListEntry<T> implements Exp
     
     @Override
     public void setExpanded(boolean expanded) {
-        this.expanded = expanded;
+        if (this.expanded != expanded) {
+            this.expanded = expanded;
+            invalidateHeight();
+        }
     }
     
     public class CategoryLabelWidget implements Element {
@@ -203,7 +223,7 @@ public class MultiElementListEntry<T> extends TooltipListEntry<T> implements Exp
         @Override
         public boolean mouseClicked(double double_1, double double_2, int int_1) {
             if (rectangle.contains(double_1, double_2)) {
-                expanded = !expanded;
+                setExpanded(!expanded);
                 MinecraftClient.getInstance().getSoundManager().play(PositionedSoundInstance.master(SoundEvents.UI_BUTTON_CLICK, 1.0F));
                 return true;
             }
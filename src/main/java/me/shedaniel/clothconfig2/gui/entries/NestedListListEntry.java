@@ -55,6 +55,7 @@ public final class NestedListListEntry<T, INNER extends AbstractConfigListEntry<
         public NestedListCell(@Nullable T value, NestedListListEntry<T, INNER> listListEntry, INNER nestedEntry) {
             super(value, listListEntry);
             this.nestedEntry = nestedEntry;
+            nestedEntry.setContainingEntry(listListEntry);
         }
         
         @Override
@@ -18,7 +18,6 @@ import net.minecraft.text.Text;
 import net.minecraft.text.TranslatableText;
 import net.minecraft.util.Identifier;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -31,6 +30,8 @@ public class SubCategoryListEntry extends TooltipListEntry<List<AbstractConfigLi
     private CategoryLabelWidget widget;
     private List<Element> children;
     private boolean expanded;
+    private int cachedItemHeight;
+    private int cachedLayoutGeneration = -1;
     
     @Deprecated
     public SubCategoryListEntry(Text categoryName, List<AbstractConfigListEntry> entries, boolean defaultExpanded) {
@@ -41,6 +42,8 @@ public class SubCategoryListEntry extends TooltipListEntry<List<AbstractConfigLi
         this.children = Lists.newArrayList(widget);
         this.children.addAll(entries);
         this.setReferenceProviderEntries((List) entries);
+        for (AbstractConfigListEntry<?> entry : entries)
+            entry.setContainingEntry(this);
     }
     
     @Override
@@ -50,7 +53,18 @@ public class SubCategoryListEntry extends TooltipListEntry<List<AbstractConfigLi
     
     @Override
     public void setExpanded(boolean expanded) {
-        this.expanded = expanded;
+        if (this.expanded != expanded) {
+            this.expanded = expanded;
+            invalidateHeight();
+        }
+    }
+    
+    @Override
+    public boolean isValidating() {
+        for (AbstractConfigListEntry entry : entries)
+            if (entry.isValidating())
+                return true;
+        return false;
     }
     
     @Override
@@ -131,16 +145,15 @@ public class SubCategoryListEntry extends TooltipListEntry<List<AbstractConfigLi
     @Override
     public int getMorePossibleHeight() {
         if (!expanded) return -1;
-        List<Integer> list = new ArrayList<>();
         int i = 24;
+        int extent = 0;
         for (AbstractConfigListEntry<?> entry : entries) {
             i += entry.getItemHeight();
-            if (entry.getMorePossibleHeight() >= 0) {
-                list.add(i + entry.getMorePossibleHeight());
-            }
+            int morePossibleHeight = entry.getMorePossibleHeight();
+            if (morePossibleHeight >= 0)
+                extent = Math.max(extent, i + morePossibleHeight);
         }
-        list.add(i);
-        return list.stream().max(Integer::compare).orElse(0) - getItemHeight();
+        return Math.max(extent, i) - getItemHeight();
     }
     
     @Override
@@ -154,13 +167,19 @@ public class SubCategoryListEntry extends TooltipListEntry<List<AbstractConfigLi
     
     @Override
     public int getItemHeight() {
+        DynamicEntryListWidget<?> parent = getParent();
+        if (parent != null && cachedLayoutGeneration == parent.getLayoutGeneration())
+            return cachedItemHeight;
+        int i = 24;
         if (expanded) {
-            int i = 24;
             for (AbstractConfigListEntry<?> entry : entries)
                 i += entry.getItemHeight();
-            return i;
         }
-        return 24;
+        if (parent != null) {
+            cachedItemHeight = i;
+            cachedLayoutGeneration = parent.getLayoutGeneration();
+        }
+        return i;
     }
     
     @Override
@@ -198,7 +217,7 @@ public class SubCategoryListEntry extends TooltipListEntry<List<AbstractConfigLi
         @Override
         public boolean mouseClicked(double double_1, double double_2, int int_1) {
             if (rectangle.contains(double_1, double_2)) {
-                expanded = !expanded;
+                setExpanded(!expanded);
                 MinecraftClient.getInstance().getSoundManager().play(PositionedSoundInstance.master(SoundEvents.UI_BUTTON_CLICK, 1.0F));
                 return true;
             }
@@ -26,6 +26,8 @@ public abstract class TextFieldListEntry<T> extends TooltipListEntry<T> {
     protected T original;
     protected List<Element> widgets;
     private boolean isSelected = false;
+    private String originalText;
+    private T originalTextSource;
     
     @ApiStatus.Internal
     @Deprecated
@@ -60,6 +62,10 @@ public abstract class TextFieldListEntry<T> extends TooltipListEntry<T> {
         };
         textFieldWidget.setMaxLength(999999);
         textFieldWidget.setText(String.valueOf(original));
+        textFieldWidget.setChangedListener(s -> {
+            onTextChanged(s);
+            markValueChanged();
+        });
         this.resetButton = new ButtonWidget(0, 0, MinecraftClient.getInstance().textRenderer.getWidth(resetButtonKey) + 6, 20, resetButtonKey, widget -> {
             TextFieldListEntry.this.textFieldWidget.setText(String.valueOf(defaultValue.get()));
         });
@@ -72,7 +78,13 @@ public abstract class TextFieldListEntry<T> extends TooltipListEntry<T> {
     }
     
     protected boolean isChanged(T original, String s) {
-        return !String.valueOf(original).equals(s);
+        if (original != this.original)
+            return !String.valueOf(original).equals(s);
+        if (originalText == null || originalTextSource != original) {
+            originalText = String.valueOf(original);
+            originalTextSource = original;
+        }
+        return !originalText.equals(s);
     }
     
     protected static void setTextFieldWidth(TextFieldWidget widget, int width) {
@@ -92,6 +104,13 @@ public abstract class TextFieldListEntry<T> extends TooltipListEntry<T> {
         
     }
     
+    /**
+     * Called every time the text of the text field changes, after construction.
+     */
+    protected void onTextChanged(String text) {
+        
+    }
+    
     @Override
     public void updateSelected(boolean isSelected) {
         this.isSelected = isSelected;
@@ -18,6 +18,7 @@ import java.util.function.Supplier;
 public class TextListEntry extends TooltipListEntry<Object> {
     
     private int savedWidth = -1;
+    private List<class_5481> wrappedLines = Collections.emptyList();
     private int color;
     private Text text;
     
@@ -44,10 +45,13 @@ public class TextListEntry extends TooltipListEntry<Object> {
     @Override
     public void render(MatrixStack matrices, int index, int y, int x, int entryWidth, int entryHeight, int mouseX, int mouseY, boolean isHovered, float delta) {
         super.render(matrices, index, y, x, entryWidth, entryHeight, mouseX, mouseY, isHovered, delta);
-        this.savedWidth = entryWidth;
+        if (this.savedWidth != entryWidth) {
+            this.savedWidth = entryWidth;
+            this.wrappedLines = MinecraftClient.getInstance().textRenderer.wrapStringToWidthAsList(text, savedWidth);
+            invalidateHeight();
+        }
         int yy = y + 4;
-        List<class_5481> strings = MinecraftClient.getInstance().textRenderer.wrapStringToWidthAsList(text, savedWidth);
-        for (class_5481 string : strings) {
+        for (class_5481 string : wrappedLines) {
             MinecraftClient.getInstance().textRenderer.drawWithShadow(matrices, string, x, yy, color);
             yy += MinecraftClient.getInstance().textRenderer.fontHeight + 3;
         }
@@ -57,10 +61,9 @@ public class TextListEntry extends TooltipListEntry<Object> {
     public int getItemHeight() {
         if (savedWidth == -1)
             return 12;
-        List<class_5481> strings = MinecraftClient.getInstance().textRenderer.wrapStringToWidthAsList(text, savedWidth);
-        if (strings.isEmpty())
+        if (wrappedLines.isEmpty())
             return 0;
-        return 15 + strings.size() * 12;
+        return 15 + wrappedLines.size() * 12;
     }
     
     @Override
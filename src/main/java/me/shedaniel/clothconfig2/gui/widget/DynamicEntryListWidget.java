@@ -1,8 +1,11 @@
 package me.shedaniel.clothconfig2.gui.widget;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import com.mojang.blaze3d.systems.RenderSystem;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import me.shedaniel.clothconfig2.api.ScissorsHandler;
+import me.shedaniel.clothconfig2.impl.BackgroundBuffer;
 import me.shedaniel.math.Rectangle;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
@@ -25,10 +28,16 @@ import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 @Environment(EnvType.CLIENT)
 public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.Entry<E>> extends AbstractParentElement implements Drawable {
     protected static final int DRAG_OUTSIDE = -2;
+    protected static final int RENDER_OVERSCAN = 1;
+    /**
+     * The draw calls of the list chrome when it is fully batched: back and hole backgrounds, then shades and scroll bar.
+     */
+    private static final int BATCHED_CHROME_DRAW_CALLS = 3;
     protected final MinecraftClient client;
     private final List<E> entries = new Entries();
     public int width;
@@ -46,6 +55,23 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
     protected boolean scrolling;
     protected E selectedItem;
     protected Identifier backgroundLocation;
+    private int[] rowOffsets = new int[1];
+    private boolean layoutDirty = true;
+    private int layoutGeneration;
+    private int layoutItemWidth = -1;
+    private int contentExtent;
+    private List<E> renderedEntries = Lists.newArrayList();
+    private List<E> lastRenderedEntries = Lists.newArrayList();
+    private int renderFrame;
+    private int drawCalls;
+    private int lastDrawCalls;
+    private final Set<Entry<?>> scrollCapturingEntries = Sets.newIdentityHashSet();
+    private final Reference2IntOpenHashMap<E> entryIndices = new Reference2IntOpenHashMap<>();
+    private boolean entryIndicesDirty;
+    private final BackgroundBuffer backBackgroundBuffer = new BackgroundBuffer();
+    private final BackgroundBuffer holeBackgroundBuffer = new BackgroundBuffer();
+    private final boolean customHoleBackground = overrides(getClass(), "renderHoleBackground", MatrixStack.class, int.class, int.class, int.class, int.class);
+    private final boolean customScrollBar = overrides(getClass(), "renderScrollBar", MatrixStack.class, Tessellator.class, BufferBuilder.class, int.class, int.class, int.class);
     
     public DynamicEntryListWidget(MinecraftClient client, int width, int height, int top, int bottom, Identifier backgroundLocation) {
         this.client = client;
@@ -56,6 +82,7 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
         this.left = 0;
         this.right = width;
         this.backgroundLocation = backgroundLocation;
+        this.entryIndices.defaultReturnValue(-1);
     }
     
     public void setRenderSelection(boolean boolean_1) {
@@ -107,25 +134,57 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
     }
     
     protected boolean isSelected(int index) {
-        return Objects.equals(this.getSelectedItem(), this.children().get(index));
+        return this.getSelectedItem() == this.children().get(index);
+    }
+    
+    /**
+     * Looks up the index of {@code item} by identity, without scanning the entries.
+     *
+     * @return the index of {@code item}, or -1 if it is not in this list
+     */
+    protected int indexOfEntry(E item) {
+        if (entryIndicesDirty) {
+            entryIndices.clear();
+            for (int i = 0; i < entries.size(); i++)
+                entryIndices.putIfAbsent(entries.get(i), i);
+            entryIndicesDirty = false;
+        }
+        return entryIndices.getInt(item);
     }
     
     protected final E getItemAtPosition(double mouseX, double mouseY) {
         int listMiddleX = this.left + this.width / 2;
         int minX = listMiddleX - this.getItemWidth() / 2;
         int maxX = listMiddleX + this.getItemWidth() / 2;
-        int currentY = MathHelper.floor(mouseY - (double) this.top) - this.headerHeight + (int) this.getScroll() - 4;
-        int itemY = 0;
-        int itemIndex = -1;
-        for (int i = 0; i < entries.size(); i++) {
-            E item = getItem(i);
-            itemY += item.getItemHeight();
-            if (itemY > currentY) {
-                itemIndex = i;
-                break;
-            }
-        }
-        return mouseX < (double) this.getScrollbarPosition() && mouseX >= minX && mouseX <= maxX && itemIndex >= 0 && currentY >= 0 && itemIndex < this.getItemCount() ? this.children().get(itemIndex) : null;
+        int itemIndex = getRowIndexAtOffset(getRowOffsetAt(mouseY));
+        return mouseX < (double) this.getScrollbarPosition() && mouseX >= minX && mouseX <= maxX && itemIndex >= 0 ? this.children().get(itemIndex) : null;
+    }
+    
+    /**
+     * Looks up the entry whose row spans the given y position, regardless of the x position.
+     */
+    protected final E getItemAtRow(double mouseY) {
+        int itemIndex = getRowIndexAtOffset(getRowOffsetAt(mouseY));
+        return itemIndex >= 0 ? this.children().get(itemIndex) : null;
+    }
+    
+    /**
+     * @return whether the given y position is covered by the part of {@code item} extending past its row, like an open dropdown
+     */
+    @SuppressWarnings("deprecation")
+    protected boolean isOverlayAt(E item, double mouseY) {
+        int morePossibleHeight = item.getMorePossibleHeight();
+        if (morePossibleHeight < 0)
+            return false;
+        int index = indexOfEntry(item);
+        if (index < 0)
+            return false;
+        int offset = getRowOffsetAt(mouseY);
+        return offset >= getRowOffset(index) && offset < getRowOffset(index + 1) + morePossibleHeight;
+    }
+    
+    private int getRowOffsetAt(double mouseY) {
+        return MathHelper.floor(mouseY - (double) this.top) - this.headerHeight + (int) this.getScroll() - 4;
     }
     
     public void updateSize(int width, int height, int top, int bottom) {
@@ -135,6 +194,7 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
         this.bottom = bottom;
         this.left = 0;
         this.right = width;
+        this.invalidateLayout();
     }
     
     public void setLeftPos(int left) {
@@ -142,17 +202,92 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
         this.right = left + this.width;
     }
     
-    protected int getMaxScrollPosition() {
-        List<Integer> list = new ArrayList<>();
-        int i = headerHeight;
-        for (E entry : entries) {
-            i += entry.getItemHeight();
-            if (entry.getMorePossibleHeight() >= 0) {
-                list.add(i + entry.getMorePossibleHeight());
-            }
+    /**
+     * Marks the cached row offsets as stale, they will be rebuilt on the next lookup.
+     * Entries caching their own height should compare against {@link #getLayoutGeneration()}.
+     */
+    public void invalidateLayout() {
+        this.layoutDirty = true;
+        this.layoutGeneration++;
+    }
+    
+    /**
+     * @return a counter incremented every time the layout is invalidated
+     */
+    public int getLayoutGeneration() {
+        return layoutGeneration;
+    }
+    
+    @SuppressWarnings("deprecation")
+    protected void updateLayout() {
+        // Wrapped entries depend on the item width, which subclasses may change without going through updateSize
+        int itemWidth = getItemWidth();
+        if (itemWidth != layoutItemWidth) {
+            layoutItemWidth = itemWidth;
+            invalidateLayout();
+        }
+        if (!layoutDirty)
+            return;
+        int size = entries.size();
+        if (rowOffsets.length < size + 1)
+            rowOffsets = new int[Math.max(size + 1, rowOffsets.length * 2)];
+        int offset = 0;
+        int extent = 0;
+        rowOffsets[0] = 0;
+        for (int i = 0; i < size; i++) {
+            E entry = entries.get(i);
+            offset += entry.getItemHeight();
+            rowOffsets[i + 1] = offset;
+            int morePossibleHeight = entry.getMorePossibleHeight();
+            if (morePossibleHeight >= 0)
+                extent = Math.max(extent, offset + morePossibleHeight);
         }
-        list.add(i);
-        return list.stream().max(Integer::compare).orElse(0);
+        contentExtent = Math.max(extent, offset);
+        layoutDirty = false;
+    }
+    
+    /**
+     * @return the sum of the heights of all entries before {@code index}, relative to the top of the first entry
+     */
+    protected int getRowOffset(int index) {
+        updateLayout();
+        return rowOffsets[MathHelper.clamp(index, 0, entries.size())];
+    }
+    
+    /**
+     * @return the index of the entry covering {@code offset}, or -1 if no entry covers it
+     */
+    protected int getRowIndexAtOffset(int offset) {
+        int index = findRowIndex(offset);
+        return offset < 0 || index >= entries.size() ? -1 : index;
+    }
+    
+    /**
+     * @return the lowest index whose entry ends after {@code offset}, or the entry count if there is none
+     */
+    private int findRowIndex(int offset) {
+        updateLayout();
+        int low = 0, high = entries.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (rowOffsets[mid + 1] > offset)
+                high = mid;
+            else
+                low = mid + 1;
+        }
+        return low;
+    }
+    
+    /**
+     * @return the entries rendered in the last frame, in render order
+     */
+    public List<E> getRenderedEntries() {
+        return renderedEntries;
+    }
+    
+    protected int getMaxScrollPosition() {
+        updateLayout();
+        return headerHeight + contentExtent;
     }
     
     protected void clickedHeader(int int_1, int int_2) {
@@ -167,23 +302,69 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
     protected void renderDecorations(MatrixStack matrices, int mouseX, int mouseY) {
     }
     
+    /**
+     * Renders the textured part of the list chrome: the scrolling back background and both hole backgrounds,
+     * unless {@link #renderHoleBackground(MatrixStack, int, int, int, int)} is overridden.
+     * The holes are drawn before the list, the entries are scissored so they never overlap them.
+     * The quads are kept in vertex buffers and only uploaded again when the list bounds change.
+     */
     @Deprecated
     protected void renderBackBackground(MatrixStack matrices, BufferBuilder buffer, Tessellator tessellator) {
         this.client.getTextureManager().bindTexture(backgroundLocation);
         RenderSystem.color4f(1.0F, 1.0F, 1.0F, 1.0F);
+        if (!backBackgroundBuffer.isBuiltFor(left, right, top, bottom, width, height) || !holeBackgroundBuffer.isBuiltFor(left, right, top, bottom, width, height)) {
+            buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
+            buffer.vertex(this.left, this.bottom, 0.0D).texture(this.left / 32.0F, this.bottom / 32.0F).color(32, 32, 32, 255).next();
+            buffer.vertex(this.right, this.bottom, 0.0D).texture(this.right / 32.0F, this.bottom / 32.0F).color(32, 32, 32, 255).next();
+            buffer.vertex(this.right, this.top, 0.0D).texture(this.right / 32.0F, this.top / 32.0F).color(32, 32, 32, 255).next();
+            buffer.vertex(this.left, this.top, 0.0D).texture(this.left / 32.0F, this.top / 32.0F).color(32, 32, 32, 255).next();
+            backBackgroundBuffer.upload(buffer, left, right, top, bottom, width, height);
+            buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
+            appendHoleBackground(Matrix4f.translate(0, 0, 0), buffer, 0, this.top, 255, 255);
+            appendHoleBackground(Matrix4f.translate(0, 0, 0), buffer, this.bottom, this.height, 255, 255);
+            holeBackgroundBuffer.upload(buffer, left, right, top, bottom, width, height);
+        }
         Matrix4f matrix = matrices.peek().getModel();
-        float float_2 = 32.0F;
-        buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
-        buffer.vertex(matrix, this.left, this.bottom, 0.0F).texture(this.left / 32.0F, ((this.bottom + (int) this.getScroll()) / 32.0F)).color(32, 32, 32, 255).next();
-        buffer.vertex(matrix, this.right, this.bottom, 0.0F).texture(this.right / 32.0F, ((this.bottom + (int) this.getScroll()) / 32.0F)).color(32, 32, 32, 255).next();
-        buffer.vertex(matrix, this.right, this.top, 0.0F).texture(this.right / 32.0F, ((this.top + (int) this.getScroll()) / 32.0F)).color(32, 32, 32, 255).next();
-        buffer.vertex(matrix, this.left, this.top, 0.0F).texture(this.left / 32.0F, ((this.top + (int) this.getScroll()) / 32.0F)).color(32, 32, 32, 255).next();
+        backBackgroundBuffer.draw(matrix, ((int) this.getScroll()) / 32.0F);
+        drawCalls++;
+        if (!customHoleBackground) {
+            holeBackgroundBuffer.draw(matrix, 0);
+            drawCalls++;
+        }
+    }
+    
+    /**
+     * Releases the vertex buffers held by this list, they are created again if the list is rendered afterwards.
+     */
+    public void close() {
+        backBackgroundBuffer.close();
+        holeBackgroundBuffer.close();
+    }
+    
+    /**
+     * Draws the tessellator buffer, counting it towards {@link #getDrawCallCount()}.
+     */
+    protected void draw(Tessellator tessellator) {
         tessellator.draw();
+        drawCalls++;
+    }
+    
+    /**
+     * Allows checking the batching of the list chrome, a list issues two draw calls for its textured chrome
+     * and one for its shades and scroll bar, plus one per {@link #draw(Tessellator)} of subclasses.
+     * Overriding {@link #renderHoleBackground(MatrixStack, int, int, int, int)} or {@link #renderScrollBar(MatrixStack, Tessellator, BufferBuilder, int, int, int)}
+     * draws those parts separately, as before the batching.
+     *
+     * @return the amount of draw calls issued by the list itself in the last frame, excluding the ones issued by entries
+     */
+    public int getDrawCallCount() {
+        return lastDrawCalls;
     }
     
     @SuppressWarnings("deprecation")
     @Override
     public void render(MatrixStack matrices, int mouseX, int mouseY, float delta) {
+        this.drawCalls = 0;
         this.drawBackground();
         int scrollbarPosition = this.getScrollbarPosition();
         int int_4 = scrollbarPosition + 6;
@@ -194,44 +375,69 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
         renderBackBackground(matrices, buffer, tessellator);
         int rowLeft = this.getRowLeft();
         int startY = this.top + 4 - (int) this.getScroll();
+        int contentDrawCalls = drawCalls;
         if (this.renderSelection)
             this.renderHeader(matrices, rowLeft, startY, tessellator);
         ScissorsHandler.INSTANCE.scissor(new Rectangle(left, top, width, bottom - top));
         this.renderList(matrices, rowLeft, startY, mouseX, mouseY, delta);
         ScissorsHandler.INSTANCE.removeLastScissor();
+        contentDrawCalls = drawCalls - contentDrawCalls;
         RenderSystem.disableDepthTest();
-        this.renderHoleBackground(matrices, 0, this.top, 255, 255);
-        this.renderHoleBackground(matrices, this.bottom, this.height, 255, 255);
+        if (customHoleBackground) {
+            this.renderHoleBackground(matrices, 0, this.top, 255, 255);
+            this.renderHoleBackground(matrices, this.bottom, this.height, 255, 255);
+        }
         RenderSystem.enableBlend();
         RenderSystem.blendFuncSeparate(770, 771, 0, 1);
         RenderSystem.disableAlphaTest();
         RenderSystem.shadeModel(7425);
         RenderSystem.disableTexture();
+        // The untextured part of the chrome, shades and scroll bar, shares a single draw call
         Matrix4f matrix = matrices.peek().getModel();
-        buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
-        buffer.vertex(matrix, this.left, this.top + 4, 0.0F).texture(0, 1).color(0, 0, 0, 0).next();
-        buffer.vertex(matrix, this.right, this.top + 4, 0.0F).texture(1, 1).color(0, 0, 0, 0).next();
-        buffer.vertex(matrix, this.right, this.top, 0.0F).texture(1, 0).color(0, 0, 0, 255).next();
-        buffer.vertex(matrix, this.left, this.top, 0.0F).texture(0, 0).color(0, 0, 0, 255).next();
-        tessellator.draw();
-        buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
-        buffer.vertex(matrix, this.left, this.bottom, 0.0F).texture(0, 1).color(0, 0, 0, 255).next();
-        buffer.vertex(matrix, this.right, this.bottom, 0.0F).texture(1, 1).color(0, 0, 0, 255).next();
-        buffer.vertex(matrix, this.right, this.bottom - 4, 0.0F).texture(1, 0).color(0, 0, 0, 0).next();
-        buffer.vertex(matrix, this.left, this.bottom - 4, 0.0F).texture(0, 0).color(0, 0, 0, 0).next();
-        tessellator.draw();
+        buffer.begin(7, VertexFormats.POSITION_COLOR);
+        buffer.vertex(matrix, this.left, this.top + 4, 0.0F).color(0, 0, 0, 0).next();
+        buffer.vertex(matrix, this.right, this.top + 4, 0.0F).color(0, 0, 0, 0).next();
+        buffer.vertex(matrix, this.right, this.top, 0.0F).color(0, 0, 0, 255).next();
+        buffer.vertex(matrix, this.left, this.top, 0.0F).color(0, 0, 0, 255).next();
+        buffer.vertex(matrix, this.left, this.bottom, 0.0F).color(0, 0, 0, 255).next();
+        buffer.vertex(matrix, this.right, this.bottom, 0.0F).color(0, 0, 0, 255).next();
+        buffer.vertex(matrix, this.right, this.bottom - 4, 0.0F).color(0, 0, 0, 0).next();
+        buffer.vertex(matrix, this.left, this.bottom - 4, 0.0F).color(0, 0, 0, 0).next();
         int maxScroll = this.getMaxScroll();
-        renderScrollBar(matrices, tessellator, buffer, maxScroll, scrollbarPosition, int_4);
+        if (customScrollBar) {
+            draw(tessellator);
+            renderScrollBar(matrices, tessellator, buffer, maxScroll, scrollbarPosition, int_4);
+        } else {
+            appendScrollBar(matrices, buffer, maxScroll, scrollbarPosition, int_4);
+            draw(tessellator);
+        }
+        assert customHoleBackground || customScrollBar || drawCalls - contentDrawCalls <= BATCHED_CHROME_DRAW_CALLS : "List chrome took " + (drawCalls - contentDrawCalls) + " draw calls";
         
         this.renderDecorations(matrices, mouseX, mouseY);
         RenderSystem.enableTexture();
         RenderSystem.shadeModel(7424);
         RenderSystem.enableAlphaTest();
         RenderSystem.disableBlend();
+        this.lastDrawCalls = drawCalls;
     }
     
-    @SuppressWarnings("deprecation")
+    /**
+     * Draws the scroll bar in its own draw call, only called by the list when a subclass overrides it,
+     * the scroll bar is otherwise appended to the shades of the list by {@link #appendScrollBar(MatrixStack, BufferBuilder, int, int, int)}.
+     */
     protected void renderScrollBar(MatrixStack matrices, Tessellator tessellator, BufferBuilder buffer, int maxScroll, int scrollbarPositionMinX, int scrollbarPositionMaxX) {
+        if (maxScroll > 0) {
+            buffer.begin(7, VertexFormats.POSITION_COLOR);
+            appendScrollBar(matrices, buffer, maxScroll, scrollbarPositionMinX, scrollbarPositionMaxX);
+            draw(tessellator);
+        }
+    }
+    
+    /**
+     * Appends the scroll bar quads to {@code buffer}, which is already building {@link VertexFormats#POSITION_COLOR} quads
+     * together with the shades of the list, and is drawn by the caller.
+     */
+    protected void appendScrollBar(MatrixStack matrices, BufferBuilder buffer, int maxScroll, int scrollbarPositionMinX, int scrollbarPositionMaxX) {
         if (maxScroll > 0) {
             int int_9 = ((this.bottom - this.top) * (this.bottom - this.top)) / this.getMaxScrollPosition();
             int_9 = MathHelper.clamp(int_9, 32, this.bottom - this.top - 8);
@@ -241,36 +447,28 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
             }
             
             Matrix4f matrix = matrices.peek().getModel();
-            buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
-            buffer.vertex(matrix, scrollbarPositionMinX, this.bottom, 0.0F).texture(0, 1).color(0, 0, 0, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMaxX, this.bottom, 0.0F).texture(1, 1).color(0, 0, 0, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMaxX, this.top, 0.0F).texture(1, 0).color(0, 0, 0, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMinX, this.top, 0.0F).texture(0, 0).color(0, 0, 0, 255).next();
-            tessellator.draw();
-            buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
-            buffer.vertex(matrix, scrollbarPositionMinX, int_10 + int_9, 0.0F).texture(0, 1).color(128, 128, 128, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMaxX, int_10 + int_9, 0.0F).texture(1, 1).color(128, 128, 128, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMaxX, int_10, 0.0F).texture(1, 0).color(128, 128, 128, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMinX, int_10, 0.0F).texture(0, 0).color(128, 128, 128, 255).next();
-            tessellator.draw();
-            buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
-            buffer.vertex(scrollbarPositionMinX, (int_10 + int_9 - 1), 0.0F).texture(0, 1).color(192, 192, 192, 255).next();
-            buffer.vertex((scrollbarPositionMaxX - 1), (int_10 + int_9 - 1), 0.0F).texture(1, 1).color(192, 192, 192, 255).next();
-            buffer.vertex((scrollbarPositionMaxX - 1), int_10, 0.0F).texture(1, 0).color(192, 192, 192, 255).next();
-            buffer.vertex(scrollbarPositionMinX, int_10, 0.0F).texture(0, 0).color(192, 192, 192, 255).next();
-            tessellator.draw();
+            buffer.vertex(matrix, scrollbarPositionMinX, this.bottom, 0.0F).color(0, 0, 0, 255).next();
+            buffer.vertex(matrix, scrollbarPositionMaxX, this.bottom, 0.0F).color(0, 0, 0, 255).next();
+            buffer.vertex(matrix, scrollbarPositionMaxX, this.top, 0.0F).color(0, 0, 0, 255).next();
+            buffer.vertex(matrix, scrollbarPositionMinX, this.top, 0.0F).color(0, 0, 0, 255).next();
+            buffer.vertex(matrix, scrollbarPositionMinX, int_10 + int_9, 0.0F).color(128, 128, 128, 255).next();
+            buffer.vertex(matrix, scrollbarPositionMaxX, int_10 + int_9, 0.0F).color(128, 128, 128, 255).next();
+            buffer.vertex(matrix, scrollbarPositionMaxX, int_10, 0.0F).color(128, 128, 128, 255).next();
+            buffer.vertex(matrix, scrollbarPositionMinX, int_10, 0.0F).color(128, 128, 128, 255).next();
+            buffer.vertex(matrix, scrollbarPositionMinX, (int_10 + int_9 - 1), 0.0F).color(192, 192, 192, 255).next();
+            buffer.vertex(matrix, (scrollbarPositionMaxX - 1), (int_10 + int_9 - 1), 0.0F).color(192, 192, 192, 255).next();
+            buffer.vertex(matrix, (scrollbarPositionMaxX - 1), int_10, 0.0F).color(192, 192, 192, 255).next();
+            buffer.vertex(matrix, scrollbarPositionMinX, int_10, 0.0F).color(192, 192, 192, 255).next();
         }
     }
     
     protected void centerScrollOn(E item) {
-        double d = (this.bottom - this.top) / -2d;
-        for (int i = 0; i < this.children().indexOf(item) && i < this.getItemCount(); i++)
-            d += getItem(i).getItemHeight();
+        double d = (this.bottom - this.top) / -2d + getRowOffset(indexOfEntry(item));
         this.capYPosition(d);
     }
     
     protected void ensureVisible(E item) {
-        int rowTop = this.getRowTop(this.children().indexOf(item));
+        int rowTop = this.getRowTop(indexOfEntry(item));
         int int_2 = rowTop - this.top - 4 - item.getItemHeight();
         if (int_2 < 0)
             this.scroll(int_2);
@@ -359,12 +557,25 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
         }
     }
     
-    public boolean mouseScrolled(double double_1, double double_2, double double_3) {
-        for (E entry : entries) {
-            if (entry.mouseScrolled(double_1, double_2, double_3)) {
+    /**
+     * Offers a wheel event to the entries capturing scroll, then to the focused entry.
+     * Other entries never see wheel events, the caller scrolls the list if this returns false.
+     *
+     * @see Entry#setCapturingScroll(boolean)
+     */
+    protected boolean dispatchMouseScrolled(double mouseX, double mouseY, double amount) {
+        for (Entry<?> entry : scrollCapturingEntries) {
+            if (entry.mouseScrolled(mouseX, mouseY, amount)) {
                 return true;
             }
         }
+        E focused = getFocused();
+        return focused != null && !scrollCapturingEntries.contains(focused) && focused.mouseScrolled(mouseX, mouseY, amount);
+    }
+    
+    public boolean mouseScrolled(double double_1, double double_2, double double_3) {
+        if (dispatchMouseScrolled(double_1, double_2, double_3))
+            return true;
         this.capYPosition(this.getScroll() - double_3 * (double) (getMaxScroll() / getItemCount()) / 2.0D);
         return true;
     }
@@ -385,7 +596,7 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
     
     protected void moveSelection(int int_1) {
         if (!this.children().isEmpty()) {
-            int int_2 = this.children().indexOf(this.getSelectedItem());
+            int int_2 = indexOfEntry(this.getSelectedItem());
             int int_3 = MathHelper.clamp(int_2 + int_1, 0, this.getItemCount() - 1);
             E itemListWidget$Item_1 = this.children().get(int_3);
             this.selectItem(itemListWidget$Item_1);
@@ -402,43 +613,87 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
         int itemCount = this.getItemCount();
         Tessellator tessellator = Tessellator.getInstance();
         BufferBuilder buffer = tessellator.getBuffer();
+        List<E> lastRendered = this.renderedEntries;
+        this.renderedEntries = this.lastRenderedEntries;
+        this.lastRenderedEntries = lastRendered;
+        this.renderedEntries.clear();
+        this.renderFrame++;
         
-        for (int renderIndex = 0; renderIndex < itemCount; ++renderIndex) {
-            E item = this.getItem(renderIndex);
-            int itemY = startY + headerHeight;
-            for (int i = 0; i < entries.size() && i < renderIndex; i++)
-                itemY += entries.get(i).getItemHeight();
-            int itemHeight = item.getItemHeight() - 4;
-            int itemWidth = this.getItemWidth();
-            int itemMinX, itemMaxX;
-            if (this.selectionVisible && this.isSelected(renderIndex)) {
-                itemMinX = this.left + this.width / 2 - itemWidth / 2;
-                itemMaxX = itemMinX + itemWidth;
-                RenderSystem.disableTexture();
-                float float_2 = this.isFocused() ? 1.0F : 0.5F;
-                Matrix4f matrix = matrices.peek().getModel();
-                RenderSystem.color4f(1.0F, 1.0F, 1.0F, 1.0F);
-                buffer.begin(7, VertexFormats.POSITION_COLOR);
-                buffer.vertex(matrix, itemMinX, itemY + itemHeight + 2, 0.0F).color(float_2, float_2, float_2, 1.0F).next();
-                buffer.vertex(matrix, itemMaxX, itemY + itemHeight + 2, 0.0F).color(float_2, float_2, float_2, 1.0F).next();
-                buffer.vertex(matrix, itemMaxX, itemY - 2, 0.0F).color(float_2, float_2, float_2, 1.0F).next();
-                buffer.vertex(matrix, itemMinX, itemY - 2, 0.0F).color(float_2, float_2, float_2, 1.0F).next();
-                tessellator.draw();
-                buffer.begin(7, VertexFormats.POSITION_COLOR);
-                buffer.vertex(matrix, itemMinX + 1, itemY + itemHeight + 1, 0.0F).color(0.0F, 0.0F, 0.0F, 1.0F).next();
-                buffer.vertex(matrix, itemMaxX - 1, itemY + itemHeight + 1, 0.0F).color(0.0F, 0.0F, 0.0F, 1.0F).next();
-                buffer.vertex(matrix, itemMaxX - 1, itemY - 1, 0.0F).color(0.0F, 0.0F, 0.0F, 1.0F).next();
-                buffer.vertex(matrix, itemMinX + 1, itemY - 1, 0.0F).color(0.0F, 0.0F, 0.0F, 1.0F).next();
-                tessellator.draw();
-                RenderSystem.enableTexture();
+        if (itemCount > 0) {
+            E hoveredItem = this.isMouseOver(int_3, int_4) ? this.getItemAtPosition(int_3, int_4) : null;
+            int firstIndex = Math.max(0, findRowIndex(this.top - startY - headerHeight) - RENDER_OVERSCAN);
+            int lastIndex = Math.min(itemCount - 1, findRowIndex(this.bottom - startY - headerHeight) + RENDER_OVERSCAN);
+            if (!hasCachedRowHeights(firstIndex, lastIndex)) {
+                invalidateLayout();
+                firstIndex = Math.max(0, findRowIndex(this.top - startY - headerHeight) - RENDER_OVERSCAN);
+                lastIndex = Math.min(itemCount - 1, findRowIndex(this.bottom - startY - headerHeight) + RENDER_OVERSCAN);
             }
-            
-            int y = this.getRowTop(renderIndex);
-            int x = this.getRowLeft();
-            DiffuseLighting.disable();
-            renderItem(matrices, item, renderIndex, y, x, itemWidth, itemHeight, int_3, int_4, this.isMouseOver(int_3, int_4) && Objects.equals(this.getItemAtPosition(int_3, int_4), item), float_1);
+            for (int renderIndex = firstIndex; renderIndex <= lastIndex; ++renderIndex) {
+                renderEntry(matrices, tessellator, buffer, renderIndex, startY, int_3, int_4, hoveredItem, float_1);
+            }
+            // The focused entry may own an overlay or keyboard focus, keep it alive even when scrolled out
+            E focused = this.getFocused();
+            if (focused != null && focused.renderedFrame != renderFrame) {
+                int focusedIndex = indexOfEntry(focused);
+                if (focusedIndex >= 0)
+                    renderEntry(matrices, tessellator, buffer, focusedIndex, startY, int_3, int_4, hoveredItem, float_1);
+            }
+        }
+        
+        for (E item : lastRenderedEntries) {
+            if (item.renderedFrame != renderFrame)
+                item.dontRender(matrices, float_1);
+        }
+    }
+    
+    /**
+     * Entries may change their height without calling {@link Entry#invalidateHeight()},
+     * measuring the entries in view keeps their rows from overlapping without walking the whole list.
+     *
+     * @return whether the entries between both indices, inclusive, still have the heights the layout was built with
+     */
+    private boolean hasCachedRowHeights(int firstIndex, int lastIndex) {
+        for (int i = firstIndex; i <= lastIndex; i++) {
+            if (entries.get(i).getItemHeight() != rowOffsets[i + 1] - rowOffsets[i])
+                return false;
+        }
+        return true;
+    }
+    
+    private void renderEntry(MatrixStack matrices, Tessellator tessellator, BufferBuilder buffer, int renderIndex, int startY, int int_3, int int_4, E hoveredItem, float float_1) {
+        E item = this.getItem(renderIndex);
+        item.renderedFrame = renderFrame;
+        renderedEntries.add(item);
+        int itemY = startY + headerHeight + getRowOffset(renderIndex);
+        int itemHeight = item.getItemHeight() - 4;
+        int itemWidth = this.getItemWidth();
+        int itemMinX, itemMaxX;
+        if (this.selectionVisible && this.isSelected(renderIndex)) {
+            itemMinX = this.left + this.width / 2 - itemWidth / 2;
+            itemMaxX = itemMinX + itemWidth;
+            RenderSystem.disableTexture();
+            float float_2 = this.isFocused() ? 1.0F : 0.5F;
+            Matrix4f matrix = matrices.peek().getModel();
+            RenderSystem.color4f(1.0F, 1.0F, 1.0F, 1.0F);
+            buffer.begin(7, VertexFormats.POSITION_COLOR);
+            buffer.vertex(matrix, itemMinX, itemY + itemHeight + 2, 0.0F).color(float_2, float_2, float_2, 1.0F).next();
+            buffer.vertex(matrix, itemMaxX, itemY + itemHeight + 2, 0.0F).color(float_2, float_2, float_2, 1.0F).next();
+            buffer.vertex(matrix, itemMaxX, itemY - 2, 0.0F).color(float_2, float_2, float_2, 1.0F).next();
+            buffer.vertex(matrix, itemMinX, itemY - 2, 0.0F).color(float_2, float_2, float_2, 1.0F).next();
+            draw(tessellator);
+            buffer.begin(7, VertexFormats.POSITION_COLOR);
+            buffer.vertex(matrix, itemMinX + 1, itemY + itemHeight + 1, 0.0F).color(0.0F, 0.0F, 0.0F, 1.0F).next();
+            buffer.vertex(matrix, itemMaxX - 1, itemY + itemHeight + 1, 0.0F).color(0.0F, 0.0F, 0.0F, 1.0F).next();
+            buffer.vertex(matrix, itemMaxX - 1, itemY - 1, 0.0F).color(0.0F, 0.0F, 0.0F, 1.0F).next();
+            buffer.vertex(matrix, itemMinX + 1, itemY - 1, 0.0F).color(0.0F, 0.0F, 0.0F, 1.0F).next();
+            draw(tessellator);
+            RenderSystem.enableTexture();
         }
         
+        int y = this.getRowTop(renderIndex);
+        int x = this.getRowLeft();
+        DiffuseLighting.disable();
+        renderItem(matrices, item, renderIndex, y, x, itemWidth, itemHeight, int_3, int_4, hoveredItem == item, float_1);
     }
     
     protected void renderItem(MatrixStack matrices, E item, int index, int y, int x, int entryWidth, int entryHeight, int mouseX, int mouseY, boolean isSelected, float delta) {
@@ -450,16 +705,17 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
     }
     
     protected int getRowTop(int index) {
-        int integer = top + 4 - (int) this.getScroll() + headerHeight;
-        for (int i = 0; i < entries.size() && i < index; i++)
-            integer += entries.get(i).getItemHeight();
-        return integer;
+        return top + 4 - (int) this.getScroll() + headerHeight + getRowOffset(index);
     }
     
     protected boolean isFocused() {
         return false;
     }
     
+    /**
+     * Draws a hole background in its own draw call after the list, only called by the list when a subclass overrides it,
+     * the holes are otherwise part of the cached {@link #renderBackBackground(MatrixStack, BufferBuilder, Tessellator)} quads.
+     */
     @SuppressWarnings("deprecation")
     protected void renderHoleBackground(MatrixStack matrices, int y1, int y2, int alpha1, int alpha2) {
         Tessellator tessellator = Tessellator.getInstance();
@@ -467,13 +723,27 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
         this.client.getTextureManager().bindTexture(backgroundLocation);
         Matrix4f matrix = matrices.peek().getModel();
         RenderSystem.color4f(1.0F, 1.0F, 1.0F, 1.0F);
-        float float_1 = 32.0F;
         buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
+        appendHoleBackground(matrix, buffer, y1, y2, alpha1, alpha2);
+        draw(tessellator);
+    }
+    
+    protected void appendHoleBackground(Matrix4f matrix, BufferBuilder buffer, int y1, int y2, int alpha1, int alpha2) {
         buffer.vertex(matrix, this.left, y2, 0.0F).texture(0, ((float) y2 / 32.0F)).color(64, 64, 64, alpha2).next();
         buffer.vertex(matrix, this.left + this.width, y2, 0.0F).texture(((float) this.width / 32.0F), ((float) y2 / 32.0F)).color(64, 64, 64, alpha2).next();
         buffer.vertex(matrix, this.left + this.width, y1, 0.0F).texture(((float) this.width / 32.0F), ((float) y1 / 32.0F)).color(64, 64, 64, alpha1).next();
         buffer.vertex(matrix, this.left, y1, 0.0F).texture(0, ((float) y1 / 32.0F)).color(64, 64, 64, alpha1).next();
-        tessellator.draw();
+    }
+    
+    private static boolean overrides(Class<?> type, String name, Class<?>... parameterTypes) {
+        for (; type != DynamicEntryListWidget.class; type = type.getSuperclass()) {
+            try {
+                type.getDeclaredMethod(name, parameterTypes);
+                return true;
+            } catch (NoSuchMethodException ignored) {
+            }
+        }
+        return false;
     }
     
     protected E remove(int int_1) {
@@ -499,12 +769,18 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
     @Environment(EnvType.CLIENT)
     public abstract static class Entry<E extends Entry<E>> extends DrawableHelper implements Element {
         @Deprecated DynamicEntryListWidget<E> parent;
+        int renderedFrame = -1;
         
         public Entry() {
         }
         
         public abstract void render(MatrixStack matrices, int index, int y, int x, int entryWidth, int entryHeight, int mouseX, int mouseY, boolean isHovered, float delta);
         
+        /**
+         * Called once when this entry is scrolled out of the viewport and stops being rendered.
+         */
+        public void dontRender(MatrixStack matrices, float delta) {}
+        
         public boolean isMouseOver(double double_1, double double_2) {
             return Objects.equals(this.parent.getItemAtPosition(double_1, double_2), this);
         }
@@ -517,6 +793,33 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
             this.parent = parent;
         }
         
+        /**
+         * Notifies the parent list that {@link #getItemHeight()} or {@link #getMorePossibleHeight()} of this entry has changed.
+         * The list caches the layout and only measures all of its entries again after this call or a change of item width.
+         * Entries in view are measured every frame, but an entry whose height changes while scrolled out of view should
+         * call this, otherwise the scroll range and the rows below it are off until it scrolls back into view.
+         */
+        public void invalidateHeight() {
+            if (parent != null)
+                parent.invalidateLayout();
+        }
+        
+        /**
+         * Registers this entry to receive wheel events from its parent list, entries should only capture scroll while an overlay such as a dropdown menu is open.
+         */
+        public void setCapturingScroll(boolean capturing) {
+            if (parent != null) {
+                if (capturing)
+                    parent.scrollCapturingEntries.add(this);
+                else
+                    parent.scrollCapturingEntries.remove(this);
+            }
+        }
+        
+        /**
+         * The result is cached by the parent list, call {@link #invalidateHeight()} whenever it changes.
+         * The list measures the entries in view every frame and rebuilds its layout if one of them changed.
+         */
         public abstract int getItemHeight();
         
         @Deprecated
@@ -536,6 +839,10 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
         @Override
         public void clear() {
             items.clear();
+            entryIndices.clear();
+            entryIndicesDirty = false;
+            scrollCapturingEntries.clear();
+            invalidateLayout();
         }
         
         @Override
@@ -551,19 +858,35 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
         @Override
         public E set(int int_1, E itemListWidget$Item_1) {
             E itemListWidget$Item_2 = this.items.set(int_1, itemListWidget$Item_1);
+            scrollCapturingEntries.remove(itemListWidget$Item_2);
+            entryIndicesDirty = true;
             itemListWidget$Item_1.parent = DynamicEntryListWidget.this;
+            invalidateLayout();
             return itemListWidget$Item_2;
         }
         
         @Override
         public void add(int int_1, E itemListWidget$Item_1) {
             this.items.add(int_1, itemListWidget$Item_1);
+            // Appending keeps every other index valid, inserting shifts the ones after it
+            if (int_1 == items.size() - 1)
+                entryIndices.putIfAbsent(itemListWidget$Item_1, int_1);
+            else
+                entryIndicesDirty = true;
             itemListWidget$Item_1.parent = DynamicEntryListWidget.this;
+            invalidateLayout();
         }
         
         @Override
         public E remove(int int_1) {
-            return this.items.remove(int_1);
+            E itemListWidget$Item_1 = this.items.remove(int_1);
+            scrollCapturingEntries.remove(itemListWidget$Item_1);
+            if (int_1 == items.size() && entryIndices.getInt(itemListWidget$Item_1) == int_1)
+                entryIndices.removeInt(itemListWidget$Item_1);
+            else if (int_1 != items.size())
+                entryIndicesDirty = true;
+            invalidateLayout();
+            return itemListWidget$Item_1;
         }
     }
 }
@@ -31,8 +31,6 @@ import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.render.BufferBuilder;
-import net.minecraft.client.render.Tessellator;
-import net.minecraft.client.render.VertexFormats;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.MathHelper;
@@ -96,11 +94,8 @@ public abstract class DynamicNewSmoothScrollingEntryListWidget<E extends Dynamic
     
     @Override
     public boolean mouseScrolled(double mouseX, double mouseY, double amount) {
-        for (E entry : children()) {
-            if (entry.mouseScrolled(mouseX, mouseY, amount)) {
-                return true;
-            }
-        }
+        if (dispatchMouseScrolled(mouseX, mouseY, amount))
+            return true;
         if (!smoothScrolling) {
             scroll += 16 * -amount;
             this.scroll = MathHelper.clamp(amount, 0.0D, this.getMaxScroll());
@@ -136,11 +131,10 @@ public abstract class DynamicNewSmoothScrollingEntryListWidget<E extends Dynamic
         super.render(matrices, mouseX, mouseY, delta);
     }
     
-    @SuppressWarnings("deprecation")
     @Override
-    protected void renderScrollBar(MatrixStack matrices, Tessellator tessellator, BufferBuilder buffer, int maxScroll, int scrollbarPositionMinX, int scrollbarPositionMaxX) {
+    protected void appendScrollBar(MatrixStack matrices, BufferBuilder buffer, int maxScroll, int scrollbarPositionMinX, int scrollbarPositionMaxX) {
         if (!smoothScrolling)
-            super.renderScrollBar(matrices, tessellator, buffer, maxScroll, scrollbarPositionMinX, scrollbarPositionMaxX);
+            super.appendScrollBar(matrices, buffer, maxScroll, scrollbarPositionMinX, scrollbarPositionMaxX);
         else if (maxScroll > 0) {
             int height = ((this.bottom - this.top) * (this.bottom - this.top)) / this.getMaxScrollPosition();
             height = MathHelper.clamp(height, 32, this.bottom - this.top - 8);
@@ -153,28 +147,22 @@ public abstract class DynamicNewSmoothScrollingEntryListWidget<E extends Dynamic
             
             Matrix4f matrix = matrices.peek().getModel();
             // Black Bar
-            buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
-            buffer.vertex(matrix, scrollbarPositionMinX, this.bottom, 0.0F).texture(0, 1).color(0, 0, 0, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMaxX, this.bottom, 0.0F).texture(1, 1).color(0, 0, 0, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMaxX, this.top, 0.0F).texture(1, 0).color(0, 0, 0, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMinX, this.top, 0.0F).texture(0, 0).color(0, 0, 0, 255).next();
-            tessellator.draw();
+            buffer.vertex(matrix, scrollbarPositionMinX, this.bottom, 0.0F).color(0, 0, 0, 255).next();
+            buffer.vertex(matrix, scrollbarPositionMaxX, this.bottom, 0.0F).color(0, 0, 0, 255).next();
+            buffer.vertex(matrix, scrollbarPositionMaxX, this.top, 0.0F).color(0, 0, 0, 255).next();
+            buffer.vertex(matrix, scrollbarPositionMinX, this.top, 0.0F).color(0, 0, 0, 255).next();
             
             // Bottom
-            buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
-            buffer.vertex(matrix, scrollbarPositionMinX, minY + height, 0.0F).texture(0, 1).color(bottomc, bottomc, bottomc, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMaxX, minY + height, 0.0F).texture(1, 1).color(bottomc, bottomc, bottomc, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMaxX, minY, 0.0F).texture(1, 0).color(bottomc, bottomc, bottomc, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMinX, minY, 0.0F).texture(0, 0).color(bottomc, bottomc, bottomc, 255).next();
-            tessellator.draw();
+            buffer.vertex(matrix, scrollbarPositionMinX, minY + height, 0.0F).color(bottomc, bottomc, bottomc, 255).next();
+            buffer.vertex(matrix, scrollbarPositionMaxX, minY + height, 0.0F).color(bottomc, bottomc, bottomc, 255).next();
+            buffer.vertex(matrix, scrollbarPositionMaxX, minY, 0.0F).color(bottomc, bottomc, bottomc, 255).next();
+            buffer.vertex(matrix, scrollbarPositionMinX, minY, 0.0F).color(bottomc, bottomc, bottomc, 255).next();
             
             // Top
-            buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
-            buffer.vertex(matrix, scrollbarPositionMinX, (minY + height - 1), 0.0F).texture(0, 1).color(topc, topc, topc, 255).next();
-            buffer.vertex(matrix, (scrollbarPositionMaxX - 1), (minY + height - 1), 0.0F).texture(1, 1).color(topc, topc, topc, 255).next();
-            buffer.vertex(matrix, (scrollbarPositionMaxX - 1), minY, 0.0F).texture(1, 0).color(topc, topc, topc, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMinX, minY, 0.0F).texture(0, 0).color(topc, topc, topc, 255).next();
-            tessellator.draw();
+            buffer.vertex(matrix, scrollbarPositionMinX, (minY + height - 1), 0.0F).color(topc, topc, topc, 255).next();
+            buffer.vertex(matrix, (scrollbarPositionMaxX - 1), (minY + height - 1), 0.0F).color(topc, topc, topc, 255).next();
+            buffer.vertex(matrix, (scrollbarPositionMaxX - 1), minY, 0.0F).color(topc, topc, topc, 255).next();
+            buffer.vertex(matrix, scrollbarPositionMinX, minY, 0.0F).color(topc, topc, topc, 255).next();
         }
     }
     
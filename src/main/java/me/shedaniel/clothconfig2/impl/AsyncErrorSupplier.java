@@ -0,0 +1,91 @@
+package me.shedaniel.clothconfig2.impl;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import me.shedaniel.clothconfig2.api.AbstractConfigEntry;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.text.LiteralText;
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Error supplier running the validator on a background thread once the value stopped changing for {@code delay} milliseconds.
+ * Until the validation of the current value completes, the last completed result is returned and {@link #isPending()} is true.
+ * All state is only touched on the client thread, the validator is the only part running in the background.
+ *
+ * @param <T> the type of the validated value
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public final class AsyncErrorSupplier<T> implements Supplier<Optional<Text>> {
+    private static final ScheduledExecutorService EXECUTOR = Executors.newScheduledThreadPool(2, new ThreadFactoryBuilder().setNameFormat("Cloth Config Validation %d").setDaemon(true).build());
+    private final AbstractConfigEntry<?> entry;
+    private final Supplier<T> valueSupplier;
+    private final Function<T, Optional<Text>> validator;
+    private final long delay;
+    private boolean requested;
+    @Nullable private T requestedValue;
+    private int requestId;
+    @Nullable private ScheduledFuture<?> future;
+    private Optional<Text> result = Optional.empty();
+    private boolean pending;
+    
+    public AsyncErrorSupplier(AbstractConfigEntry<?> entry, Supplier<T> valueSupplier, Function<T, Optional<Text>> validator, long delay) {
+        this.entry = Objects.requireNonNull(entry);
+        this.valueSupplier = Objects.requireNonNull(valueSupplier);
+        this.validator = Objects.requireNonNull(validator);
+        this.delay = delay;
+    }
+    
+    @Override
+    public Optional<Text> get() {
+        T value = valueSupplier.get();
+        if (!requested || !Objects.equals(value, requestedValue))
+            request(value);
+        return result;
+    }
+    
+    public boolean isPending() {
+        return pending;
+    }
+    
+    private void request(T value) {
+        if (future != null)
+            future.cancel(false);
+        int id = ++requestId;
+        requested = true;
+        requestedValue = value;
+        pending = true;
+        future = EXECUTOR.schedule(() -> {
+            Optional<Text> error;
+            try {
+                error = validator.apply(value);
+            } catch (Throwable throwable) {
+                error = Optional.of(new LiteralText(String.valueOf(throwable.getMessage())));
+            }
+            Optional<Text> completed = error;
+            MinecraftClient.getInstance().execute(() -> complete(id, completed));
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+    
+    private void complete(int id, Optional<Text> error) {
+        // A newer value was requested in the meantime, its own task will report back
+        if (id != requestId)
+            return;
+        this.result = error;
+        this.pending = false;
+        this.future = null;
+        entry.refreshConfigError();
+    }
+}
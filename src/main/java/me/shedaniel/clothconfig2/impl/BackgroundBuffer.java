@@ -0,0 +1,77 @@
+package me.shedaniel.clothconfig2.impl;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.gl.VertexBuffer;
+import net.minecraft.client.render.BufferBuilder;
+import net.minecraft.client.render.VertexFormats;
+import net.minecraft.util.math.Matrix4f;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Background quads kept on the GPU, only uploaded again when the geometry they were built for changes.
+ * Scrolling is applied through the texture matrix, so the vertices never depend on the scroll offset.
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public final class BackgroundBuffer implements AutoCloseable {
+    @Nullable private VertexBuffer vertexBuffer;
+    private int[] geometry = new int[0];
+    
+    /**
+     * @return whether the uploaded quads were built for the given geometry
+     */
+    public boolean isBuiltFor(int... geometry) {
+        return vertexBuffer != null && Arrays.equals(this.geometry, geometry);
+    }
+    
+    /**
+     * Uploads the {@link VertexFormats#POSITION_TEXTURE_COLOR} quads built in {@code builder}, which is ended here.
+     */
+    public void upload(BufferBuilder builder, int... geometry) {
+        builder.end();
+        if (vertexBuffer == null)
+            vertexBuffer = new VertexBuffer(VertexFormats.POSITION_TEXTURE_COLOR);
+        vertexBuffer.upload(builder);
+        this.geometry = geometry;
+    }
+    
+    public void draw(Matrix4f matrix, float textureOffsetY) {
+        if (vertexBuffer == null)
+            return;
+        boolean offset = textureOffsetY != 0;
+        if (offset) {
+            RenderSystem.matrixMode(5890);
+            RenderSystem.pushMatrix();
+            RenderSystem.translatef(0, textureOffsetY, 0);
+            RenderSystem.matrixMode(5888);
+        }
+        vertexBuffer.bind();
+        VertexFormats.POSITION_TEXTURE_COLOR.startDrawing(0L);
+        // VertexBuffer#draw replaces the model view matrix, which would drop the GUI translation
+        RenderSystem.pushMatrix();
+        RenderSystem.multMatrix(matrix);
+        RenderSystem.drawArrays(7, 0, vertexBuffer.vertexCount);
+        RenderSystem.popMatrix();
+        VertexBuffer.unbind();
+        VertexFormats.POSITION_TEXTURE_COLOR.endDrawing();
+        if (offset) {
+            RenderSystem.matrixMode(5890);
+            RenderSystem.popMatrix();
+            RenderSystem.matrixMode(5888);
+        }
+    }
+    
+    @Override
+    public void close() {
+        if (vertexBuffer != null) {
+            vertexBuffer.close();
+            vertexBuffer = null;
+        }
+        geometry = new int[0];
+    }
+}
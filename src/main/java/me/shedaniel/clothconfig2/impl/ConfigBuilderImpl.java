@@ -4,6 +4,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import me.shedaniel.clothconfig2.api.ConfigBuilder;
 import me.shedaniel.clothconfig2.api.ConfigCategory;
+import me.shedaniel.clothconfig2.api.ConfigPersister;
 import me.shedaniel.clothconfig2.api.Expandable;
 import me.shedaniel.clothconfig2.api.TabbedConfigScreen;
 import me.shedaniel.clothconfig2.gui.AbstractConfigScreen;
@@ -27,6 +28,7 @@ import java.util.function.Consumer;
 @ApiStatus.Internal
 public class ConfigBuilderImpl implements ConfigBuilder {
     private Runnable savingRunnable;
+    private ConfigPersister persister;
     private Screen parent;
     private Text title = new TranslatableText("text.cloth-config.config");
     private boolean globalized = false;
@@ -206,6 +208,17 @@ public class ConfigBuilderImpl implements ConfigBuilder {
         return this;
     }
     
+    @Override
+    public ConfigPersister getPersister() {
+        return persister;
+    }
+    
+    @Override
+    public ConfigBuilder setPersister(ConfigPersister persister) {
+        this.persister = persister;
+        return this;
+    }
+    
     @Override
     public Consumer<Screen> getAfterInitConsumer() {
         return afterInitConsumer;
@@ -222,6 +235,7 @@ public class ConfigBuilderImpl implements ConfigBuilder {
             screen = new ClothConfigScreen(parent, title,  categoryMap, defaultBackground);
         }
         screen.setSavingRunnable(savingRunnable);
+        screen.setPersister(persister);
         screen.setEditable(editable);
         screen.setFallbackCategory(fallbackCategory);
         screen.setTransparentBackground(transparentBackground);
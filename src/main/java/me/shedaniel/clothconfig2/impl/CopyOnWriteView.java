@@ -0,0 +1,77 @@
+package me.shedaniel.clothconfig2.impl;
+
+import com.google.common.collect.Lists;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Modifiable list reading through to a lazy view until it is first modified, it then works on its own copy of the elements.
+ * Lets lazy views stand in for the plain lists subclasses used to fill and clear themselves.
+ *
+ * @param <E> the element type
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public final class CopyOnWriteView<E> extends AbstractList<E> implements RandomAccess {
+    private List<E> elements;
+    private boolean copied;
+    
+    public CopyOnWriteView(List<E> view) {
+        this.elements = view;
+    }
+    
+    /**
+     * @return whether the list was modified, after which it no longer reads through to the view
+     */
+    public boolean isCopied() {
+        return copied;
+    }
+    
+    private List<E> copy() {
+        if (!copied) {
+            elements = Lists.newArrayList(elements);
+            copied = true;
+        }
+        return elements;
+    }
+    
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+    
+    @Override
+    public int size() {
+        return elements.size();
+    }
+    
+    @Override
+    public E set(int index, E element) {
+        return copy().set(index, element);
+    }
+    
+    @Override
+    public void add(int index, E element) {
+        modCount++;
+        copy().add(index, element);
+    }
+    
+    @Override
+    public E remove(int index) {
+        modCount++;
+        return copy().remove(index);
+    }
+    
+    @Override
+    public void clear() {
+        modCount++;
+        // Nothing to copy
+        elements = Lists.newArrayList();
+        copied = true;
+    }
+}
@@ -0,0 +1,89 @@
+package me.shedaniel.clothconfig2.impl;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import me.shedaniel.clothconfig2.api.AbstractConfigEntry;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Propagates value changes along the dependencies declared with {@link AbstractConfigEntry#addDependency(AbstractConfigEntry)}.
+ * Only the transitive dependents of the changed entry are re-evaluated, each one once and after all of its own dependencies.
+ * Only used on the client thread.
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public final class EntryDependencyGraph {
+    private static final Deque<AbstractConfigEntry<?>> PENDING = new ArrayDeque<>();
+    @Nullable private static AbstractConfigEntry<?> current;
+    private static boolean propagating;
+    
+    private EntryDependencyGraph() {}
+    
+    /**
+     * @return whether {@code to} is {@code from} or one of its transitive dependents
+     */
+    public static boolean isReachable(AbstractConfigEntry<?> from, AbstractConfigEntry<?> to) {
+        Set<AbstractConfigEntry<?>> visited = Sets.newIdentityHashSet();
+        Deque<AbstractConfigEntry<?>> stack = new ArrayDeque<>();
+        stack.push(from);
+        while (!stack.isEmpty()) {
+            AbstractConfigEntry<?> entry = stack.pop();
+            if (entry == to)
+                return true;
+            if (visited.add(entry))
+                stack.addAll(entry.getDependents());
+        }
+        return false;
+    }
+    
+    public static void propagate(AbstractConfigEntry<?> changed) {
+        if (changed.getDependents().isEmpty())
+            return;
+        if (propagating) {
+            // The dependents of the entry being re-evaluated come after it in the current order anyway
+            if (changed != current)
+                PENDING.add(changed);
+            return;
+        }
+        propagating = true;
+        try {
+            PENDING.add(changed);
+            while (!PENDING.isEmpty()) {
+                for (AbstractConfigEntry<?> dependent : sortDependents(PENDING.poll())) {
+                    current = dependent;
+                    dependent.onDependencyChanged();
+                }
+            }
+        } finally {
+            current = null;
+            propagating = false;
+            PENDING.clear();
+        }
+    }
+    
+    /**
+     * @return the transitive dependents of {@code root} in topological order, excluding {@code root}
+     */
+    private static List<AbstractConfigEntry<?>> sortDependents(AbstractConfigEntry<?> root) {
+        List<AbstractConfigEntry<?>> postOrder = Lists.newArrayList();
+        visit(root, Sets.newIdentityHashSet(), postOrder);
+        postOrder.remove(postOrder.size() - 1);
+        return Lists.reverse(postOrder);
+    }
+    
+    private static void visit(AbstractConfigEntry<?> entry, Set<AbstractConfigEntry<?>> visited, List<AbstractConfigEntry<?>> postOrder) {
+        if (!visited.add(entry))
+            return;
+        for (AbstractConfigEntry<?> dependent : entry.getDependents())
+            visit(dependent, visited, postOrder);
+        postOrder.add(entry);
+    }
+}
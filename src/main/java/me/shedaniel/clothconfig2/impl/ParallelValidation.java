@@ -0,0 +1,60 @@
+package me.shedaniel.clothconfig2.impl;
+
+import com.google.common.collect.Lists;
+import me.shedaniel.clothconfig2.api.AbstractConfigEntry;
+import me.shedaniel.clothconfig2.api.ReferenceProvider;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Evaluates the side effect free validators of all entries once more right before saving, on the common {@link java.util.concurrent.ForkJoinPool} for large screens.
+ * Values are read on the client thread before, results are handed back to the entries on the client thread after.
+ * A throwing validator is rethrown on the client thread on both paths, the screen then cancels the save and reports it as the save error.
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public final class ParallelValidation {
+    /**
+     * Below this many validators, they are run on the client thread.
+     */
+    private static final int PARALLEL_THRESHOLD = 32;
+    
+    private ParallelValidation() {}
+    
+    public static void validate(Iterable<? extends AbstractConfigEntry<?>> entries) {
+        List<AbstractConfigEntry<?>> pending = Lists.newArrayList();
+        List<Supplier<Optional<Text>>> tasks = Lists.newArrayList();
+        collect(entries, pending, tasks);
+        if (tasks.isEmpty())
+            return;
+        Stream<Supplier<Optional<Text>>> stream = tasks.size() < PARALLEL_THRESHOLD ? tasks.stream() : tasks.parallelStream();
+        List<Optional<Text>> results = stream.map(Supplier::get).collect(Collectors.toList());
+        for (int i = 0; i < pending.size(); i++)
+            pending.get(i).acceptValidationResult(results.get(i));
+    }
+    
+    private static void collect(Iterable<? extends AbstractConfigEntry<?>> entries, List<AbstractConfigEntry<?>> pending, List<Supplier<Optional<Text>>> tasks) {
+        for (AbstractConfigEntry<?> entry : entries) {
+            Supplier<Optional<Text>> task = entry.createValidationSnapshot();
+            if (task != null) {
+                pending.add(entry);
+                tasks.add(task);
+            }
+            List<ReferenceProvider<?>> children = entry.getReferenceProviderEntries();
+            if (children != null) {
+                List<AbstractConfigEntry<?>> childEntries = Lists.newArrayListWithCapacity(children.size());
+                for (ReferenceProvider<?> child : children)
+                    childEntries.add(child.provideReferenceEntry());
+                collect(childEntries, pending, tasks);
+            }
+        }
+    }
+}
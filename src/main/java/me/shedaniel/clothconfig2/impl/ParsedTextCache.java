@@ -0,0 +1,107 @@
+package me.shedaniel.clothconfig2.impl;
+
+import com.google.common.primitives.Doubles;
+import com.google.common.primitives.Floats;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Holds the result of parsing the text of a text field, the text is only parsed again once it changes.
+ * The parsers never throw, invalid text parses to {@code null}.
+ *
+ * @param <T> the parsed type
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public final class ParsedTextCache<T> {
+    private final Function<String, T> parser;
+    @Nullable private String text;
+    @Nullable private T value;
+    
+    public ParsedTextCache(@NotNull Function<String, T> parser) {
+        this.parser = Objects.requireNonNull(parser);
+    }
+    
+    /**
+     * Accepts the same text as {@link Integer#parseInt(String)}.
+     */
+    public static ParsedTextCache<Integer> ofInt() {
+        return new ParsedTextCache<>(ParsedTextCache::parseInt);
+    }
+    
+    /**
+     * Accepts the same text as {@link Long#parseLong(String)}.
+     */
+    public static ParsedTextCache<Long> ofLong() {
+        return new ParsedTextCache<>(ParsedTextCache::parseLong);
+    }
+    
+    /**
+     * Accepts the same text as {@link Float#parseFloat(String)}.
+     */
+    public static ParsedTextCache<Float> ofFloat() {
+        return new ParsedTextCache<>(text -> Floats.tryParse(text.trim()));
+    }
+    
+    /**
+     * Accepts the same text as {@link Double#parseDouble(String)}.
+     */
+    public static ParsedTextCache<Double> ofDouble() {
+        return new ParsedTextCache<>(text -> Doubles.tryParse(text.trim()));
+    }
+    
+    /**
+     * Guava only accepts ASCII digits, while the JDK parser also accepts the digits of other scripts, which only that rare text pays an exception for.
+     */
+    @Nullable
+    private static Integer parseInt(String text) {
+        Integer value = Ints.tryParse(stripPlusSign(text));
+        if (value != null)
+            return value;
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+    
+    @Nullable
+    private static Long parseLong(String text) {
+        Long value = Longs.tryParse(stripPlusSign(text));
+        if (value != null)
+            return value;
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Guava's integral parsers only accept a leading minus sign, while the JDK ones also accept a single leading plus sign.
+     */
+    private static String stripPlusSign(String text) {
+        return text.length() > 1 && text.charAt(0) == '+' && text.charAt(1) != '-' ? text.substring(1) : text;
+    }
+    
+    /**
+     * @return the parsed value of {@code text}, or {@code null} if it is not valid
+     */
+    @Nullable
+    public T parse(@NotNull String text) {
+        // Text fields hand out the same string until they are edited, so this is usually an identity check
+        if (!text.equals(this.text)) {
+            this.text = text;
+            this.value = parser.apply(text);
+        }
+        return value;
+    }
+}
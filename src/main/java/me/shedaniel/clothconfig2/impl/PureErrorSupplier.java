@@ -0,0 +1,41 @@
+package me.shedaniel.clothconfig2.impl;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Error supplier whose validator is declared side effect free, so it can be evaluated on any thread against a snapshot of the value.
+ *
+ * @param <T> the type of the validated value
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public final class PureErrorSupplier<T> implements Supplier<Optional<Text>> {
+    private final Supplier<T> valueSupplier;
+    private final Function<T, Optional<Text>> validator;
+    
+    public PureErrorSupplier(Supplier<T> valueSupplier, Function<T, Optional<Text>> validator) {
+        this.valueSupplier = Objects.requireNonNull(valueSupplier);
+        this.validator = Objects.requireNonNull(validator);
+    }
+    
+    @Override
+    public Optional<Text> get() {
+        return validator.apply(valueSupplier.get());
+    }
+    
+    /**
+     * Reads the value on the calling thread, the returned supplier only runs the validator and may be called from any thread.
+     */
+    public Supplier<Optional<Text>> snapshot() {
+        T value = valueSupplier.get();
+        return () -> validator.apply(value);
+    }
+}
@@ -0,0 +1,82 @@
+package me.shedaniel.clothconfig2.impl;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Unmodifiable view of elements ordered by descending score, equal scores keeping their original order.
+ * The elements are kept in a heap and only ranked up to the highest index requested so far,
+ * so showing the first few results of a large list never sorts the rest.
+ *
+ * @param <E> the element type
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public final class RankedList<E> extends AbstractList<E> implements RandomAccess {
+    private final List<E> elements;
+    private final double[] scores;
+    private final int[] heap;
+    private int heapSize;
+    private final int[] ranked;
+    private int rankedSize;
+    
+    /**
+     * @param scores the score of each element, read once here
+     */
+    public RankedList(List<E> elements, double[] scores) {
+        if (elements.size() != scores.length)
+            throw new IllegalArgumentException("Expected " + elements.size() + " scores, got " + scores.length);
+        this.elements = elements;
+        this.scores = scores;
+        this.heapSize = scores.length;
+        this.heap = new int[heapSize];
+        this.ranked = new int[heapSize];
+        for (int i = 0; i < heapSize; i++)
+            heap[i] = i;
+        for (int i = heapSize / 2 - 1; i >= 0; i--)
+            siftDown(i);
+    }
+    
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= ranked.length)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + ranked.length);
+        while (rankedSize <= index) {
+            ranked[rankedSize++] = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(0);
+        }
+        return elements.get(ranked[index]);
+    }
+    
+    @Override
+    public int size() {
+        return ranked.length;
+    }
+    
+    private boolean before(int a, int b) {
+        int compare = Double.compare(scores[a], scores[b]);
+        return compare != 0 ? compare > 0 : a < b;
+    }
+    
+    private void siftDown(int i) {
+        int element = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize)
+                break;
+            if (child + 1 < heapSize && before(heap[child + 1], heap[child]))
+                child++;
+            if (!before(heap[child], element))
+                break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = element;
+    }
+}
@@ -0,0 +1,154 @@
+package me.shedaniel.clothconfig2.impl;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Case insensitive substring index over a fixed list of keys, built once from the postings of every 1, 2 and 3 character gram.
+ * Queries up to 3 characters are answered from a single posting list, longer queries only verify the keys in their rarest trigram list.
+ * The index is immutable once built, so it can be shared between dropdowns and threads.
+ * Keys that are {@code null} match every query.
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public final class SearchIndex {
+    private static final int[] EMPTY = new int[0];
+    private final String[] keys;
+    private final int[] all;
+    private final int[] unkeyed;
+    private final Long2ObjectMap<int[]> postings;
+    
+    public SearchIndex(List<String> keys) {
+        int size = keys.size();
+        this.keys = new String[size];
+        this.all = new int[size];
+        IntArrayList unkeyed = new IntArrayList();
+        Long2ObjectOpenHashMap<IntArrayList> postings = new Long2ObjectOpenHashMap<>();
+        for (int i = 0; i < size; i++) {
+            all[i] = i;
+            String key = keys.get(i);
+            if (key == null) {
+                unkeyed.add(i);
+                continue;
+            }
+            key = normalize(key);
+            this.keys[i] = key;
+            for (int start = 0; start < key.length(); start++) {
+                for (int length = 1; length <= 3 && start + length <= key.length(); length++) {
+                    long gram = gram(key, start, length);
+                    IntArrayList list = postings.get(gram);
+                    if (list == null)
+                        postings.put(gram, list = new IntArrayList());
+                    // Keys are added in order, so a repeated gram of the same key is always the last element
+                    if (list.isEmpty() || list.getInt(list.size() - 1) != i)
+                        list.add(i);
+                }
+            }
+        }
+        this.unkeyed = unkeyed.toIntArray();
+        this.postings = new Long2ObjectOpenHashMap<>(postings.size());
+        for (Long2ObjectMap.Entry<IntArrayList> entry : postings.long2ObjectEntrySet())
+            this.postings.put(entry.getLongKey(), entry.getValue().toIntArray());
+    }
+    
+    public int size() {
+        return keys.length;
+    }
+    
+    /**
+     * @return the normalized key at {@code index}, or {@code null} if that key is {@code null}
+     */
+    @Nullable
+    public String getKey(int index) {
+        return keys[index];
+    }
+    
+    /**
+     * @return the indices of the keys containing {@code query}, in ascending order
+     */
+    public int[] search(String query) {
+        query = normalize(query);
+        return query.isEmpty() ? all : lookup(query);
+    }
+    
+    /**
+     * Narrows the result of a previous query, valid as long as {@code query} contains that previous query.
+     *
+     * @return the indices in {@code previousResult} whose keys contain {@code query}, in ascending order
+     */
+    public int[] refine(int[] previousResult, String query) {
+        return filter(previousResult, normalize(query));
+    }
+    
+    /**
+     * Allows filtering a large query incrementally with {@link #matches(int, String)}.
+     *
+     * @param query a normalized, non empty query
+     * @return a superset of the indices of the keys containing {@code query} in ascending order, exact for queries of up to 3 characters
+     */
+    public int[] getCandidates(String query) {
+        if (query.length() <= 3) {
+            int[] posting = postings.getOrDefault(gram(query, 0, query.length()), EMPTY);
+            return unkeyed.length == 0 ? posting : merge(posting, unkeyed);
+        }
+        int[] rarest = null;
+        for (int start = 0; start + 3 <= query.length(); start++) {
+            int[] posting = postings.getOrDefault(gram(query, start, 3), EMPTY);
+            if (rarest == null || posting.length < rarest.length)
+                rarest = posting;
+        }
+        return unkeyed.length == 0 ? rarest : merge(rarest, unkeyed);
+    }
+    
+    /**
+     * @param query a normalized query
+     */
+    public boolean matches(int index, String query) {
+        String key = keys[index];
+        return key == null || key.contains(query);
+    }
+    
+    private int[] lookup(String query) {
+        int[] candidates = getCandidates(query);
+        return query.length() <= 3 ? candidates : filter(candidates, query);
+    }
+    
+    private int[] filter(int[] candidates, String query) {
+        IntArrayList result = new IntArrayList(Math.min(candidates.length, 16));
+        for (int i : candidates)
+            if (matches(i, query))
+                result.add(i);
+        return result.size() == candidates.length ? candidates : result.toIntArray();
+    }
+    
+    private static int[] merge(int[] a, int[] b) {
+        int[] merged = new int[a.length + b.length];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length)
+            merged[k++] = a[i] < b[j] ? a[i++] : b[j++];
+        while (i < a.length)
+            merged[k++] = a[i++];
+        while (j < b.length)
+            merged[k++] = b[j++];
+        return merged;
+    }
+    
+    private static long gram(String s, int start, int length) {
+        long gram = length;
+        for (int i = 0; i < length; i++)
+            gram = gram << 16 | s.charAt(start + i);
+        return gram;
+    }
+    
+    public static String normalize(String s) {
+        return s.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,126 @@
+package me.shedaniel.clothconfig2.impl;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import me.shedaniel.math.api.Executor;
+import net.fabricmc.fabric.api.event.registry.RegistryEntryAddedCallback;
+import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.util.registry.Registry;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Selections shared by every dropdown using the same key, together with their search index.
+ * The selections are only copied, and the index only built, once per game session,
+ * until a resource reload or, for pools keyed by a {@link Registry}, an addition to that registry.
+ * Both are tracked through fabric api when it is installed, without it the pools are kept for the whole session.
+ * Pools are referenced by the dropdown menus using them, on invalidation the pools nothing references anymore are dropped.
+ * Only used on the client thread.
+ *
+ * @param <T> the selection type
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public final class SelectionPool<T> {
+    private static final Map<Object, SelectionPool<?>> POOLS = Maps.newHashMap();
+    /**
+     * Fabric events can't be unregistered, so each registry is listened to once, for whichever pool it currently keys.
+     */
+    private static final Set<Registry<?>> LISTENED_REGISTRIES = Sets.newIdentityHashSet();
+    private final Supplier<? extends Iterable<T>> source;
+    private final List<WeakReference<Object>> holders = Lists.newArrayList();
+    @Nullable private Snapshot<T> snapshot;
+    
+    private SelectionPool(Supplier<? extends Iterable<T>> source) {
+        this.source = source;
+    }
+    
+    /**
+     * @param key    identifies the selections, dropdowns sharing it must show the same text for the same selection
+     * @param source the selections, only queried when the pool has no valid snapshot
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> SelectionPool<T> of(Object key, Supplier<? extends Iterable<T>> source) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(source);
+        SelectionPool<T> pool = (SelectionPool<T>) POOLS.get(key);
+        if (pool == null) {
+            pool = new SelectionPool<>(source);
+            POOLS.put(key, pool);
+            // Without the registry events of fabric api, registry pools only follow the resource reloads
+            if (key instanceof Registry && FabricLoader.getInstance().isModLoaded("fabric-registry-sync-v0") && LISTENED_REGISTRIES.add((Registry<?>) key)) {
+                Executor.run(() -> () -> RegistryEntryAddedCallback.event((Registry<?>) key).register((rawId, id, object) -> {
+                    SelectionPool<?> registryPool = POOLS.get(key);
+                    if (registryPool != null)
+                        registryPool.invalidate();
+                }));
+            }
+        }
+        return pool;
+    }
+    
+    /**
+     * Registers {@code holder} as using this pool until it is garbage collected.
+     *
+     * @return the current selections
+     */
+    public Snapshot<T> acquire(Object holder) {
+        holders.removeIf(reference -> reference.get() == null);
+        holders.add(new WeakReference<>(holder));
+        if (snapshot == null)
+            snapshot = new Snapshot<>(ImmutableList.copyOf(source.get()));
+        return snapshot;
+    }
+    
+    public int getReferenceCount() {
+        holders.removeIf(holder -> holder.get() == null);
+        return holders.size();
+    }
+    
+    /**
+     * Dropdowns already built keep the snapshot they acquired, the next ones get fresh selections.
+     */
+    public void invalidate() {
+        snapshot = null;
+    }
+    
+    public static void invalidateAll() {
+        POOLS.values().removeIf(pool -> {
+            pool.invalidate();
+            return pool.getReferenceCount() == 0;
+        });
+    }
+    
+    public static final class Snapshot<T> {
+        private final ImmutableList<T> selections;
+        @Nullable private SearchIndex searchIndex;
+        
+        private Snapshot(ImmutableList<T> selections) {
+            this.selections = selections;
+        }
+        
+        public ImmutableList<T> getSelections() {
+            return selections;
+        }
+        
+        /**
+         * @param factory builds the index over {@link #getSelections()}, only called by the first dropdown searching
+         */
+        public SearchIndex getSearchIndex(Supplier<SearchIndex> factory) {
+            if (searchIndex == null)
+                searchIndex = factory.get();
+            return searchIndex;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package me.shedaniel.clothconfig2.impl.builders;
 
+import me.shedaniel.clothconfig2.api.AbstractConfigEntry;
 import me.shedaniel.clothconfig2.gui.entries.BooleanListEntry;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
@@ -80,6 +81,36 @@ public class BooleanToggleBuilder extends FieldBuilder<Boolean, BooleanListEntry
         return this;
     }
     
+    @Override
+    public BooleanToggleBuilder addDependency(AbstractConfigEntry<?> dependency) {
+        super.addDependency(dependency);
+        return this;
+    }
+    
+    @Override
+    public BooleanToggleBuilder setDependencyListener(@Nullable Consumer<BooleanListEntry> dependencyListener) {
+        super.setDependencyListener(dependencyListener);
+        return this;
+    }
+    
+    @Override
+    public BooleanToggleBuilder setAsyncValidation(boolean asyncValidation) {
+        super.setAsyncValidation(asyncValidation);
+        return this;
+    }
+    
+    @Override
+    public BooleanToggleBuilder setAsyncValidation(boolean asyncValidation, long delay) {
+        super.setAsyncValidation(asyncValidation, delay);
+        return this;
+    }
+    
+    @Override
+    public BooleanToggleBuilder setParallelValidation(boolean parallelValidation) {
+        super.setParallelValidation(parallelValidation);
+        return this;
+    }
+    
     @NotNull
     @Override
     public BooleanListEntry build() {
@@ -93,8 +124,8 @@ public class BooleanToggleBuilder extends FieldBuilder<Boolean, BooleanListEntry
         };
         entry.setTooltipSupplier(() -> tooltipSupplier.apply(entry.getValue()));
         if (errorSupplier != null)
-            entry.setErrorSupplier(() -> errorSupplier.apply(entry.getValue()));
-        return entry;
+            entry.setErrorSupplier(createErrorSupplier(entry, entry::getValue, errorSupplier));
+        return applyDependencies(entry);
     }
     
 }
@@ -1,5 +1,6 @@
 package me.shedaniel.clothconfig2.impl.builders;
 
+import me.shedaniel.clothconfig2.api.AbstractConfigEntry;
 import me.shedaniel.clothconfig2.gui.entries.ColorEntry;
 import me.shedaniel.math.Color;
 import net.fabricmc.api.EnvType;
@@ -7,6 +8,7 @@ import net.fabricmc.api.Environment;
 import net.minecraft.text.Text;
 import net.minecraft.text.TextColor;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -104,6 +106,36 @@ public class ColorFieldBuilder extends FieldBuilder<String, ColorEntry> {
         return this;
     }
     
+    @Override
+    public ColorFieldBuilder addDependency(AbstractConfigEntry<?> dependency) {
+        super.addDependency(dependency);
+        return this;
+    }
+    
+    @Override
+    public ColorFieldBuilder setDependencyListener(@Nullable Consumer<ColorEntry> dependencyListener) {
+        super.setDependencyListener(dependencyListener);
+        return this;
+    }
+    
+    @Override
+    public ColorFieldBuilder setAsyncValidation(boolean asyncValidation) {
+        super.setAsyncValidation(asyncValidation);
+        return this;
+    }
+    
+    @Override
+    public ColorFieldBuilder setAsyncValidation(boolean asyncValidation, long delay) {
+        super.setAsyncValidation(asyncValidation, delay);
+        return this;
+    }
+    
+    @Override
+    public ColorFieldBuilder setParallelValidation(boolean parallelValidation) {
+        super.setParallelValidation(parallelValidation);
+        return this;
+    }
+    
     @NotNull
     @Override
     public ColorEntry build() {
@@ -115,8 +147,8 @@ public class ColorFieldBuilder extends FieldBuilder<String, ColorEntry> {
         }
         entry.setTooltipSupplier(() -> tooltipSupplier.apply(entry.getValue()));
         if (errorSupplier != null)
-            entry.setErrorSupplier(() -> errorSupplier.apply(entry.getValue()));
-        return entry;
+            entry.setErrorSupplier(createErrorSupplier(entry, entry::getValue, errorSupplier));
+        return applyDependencies(entry);
     }
     
 }
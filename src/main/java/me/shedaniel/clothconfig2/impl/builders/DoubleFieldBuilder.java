@@ -1,10 +1,14 @@
 package me.shedaniel.clothconfig2.impl.builders;
 
+import me.shedaniel.clothconfig2.api.AbstractConfigEntry;
+import me.shedaniel.clothconfig2.api.constraint.Constraint;
+import me.shedaniel.clothconfig2.api.constraint.RangeConstraint;
 import me.shedaniel.clothconfig2.gui.entries.DoubleListEntry;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.text.Text;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -69,6 +73,13 @@ public class DoubleFieldBuilder extends FieldBuilder<Double, DoubleListEntry> {
         return this;
     }
     
+    /**
+     * The bounds set on this builder as a constraint, for example to validate the same value where there is no screen.
+     */
+    public RangeConstraint<Double> getRange() {
+        return Constraint.range(min, max);
+    }
+    
     public DoubleFieldBuilder setTooltipSupplier(Function<Double, Optional<Text[]>> tooltipSupplier) {
         this.tooltipSupplier = tooltipSupplier;
         return this;
@@ -89,18 +100,45 @@ public class DoubleFieldBuilder extends FieldBuilder<Double, DoubleListEntry> {
         return this;
     }
     
+    @Override
+    public DoubleFieldBuilder addDependency(AbstractConfigEntry<?> dependency) {
+        super.addDependency(dependency);
+        return this;
+    }
+    
+    @Override
+    public DoubleFieldBuilder setDependencyListener(@Nullable Consumer<DoubleListEntry> dependencyListener) {
+        super.setDependencyListener(dependencyListener);
+        return this;
+    }
+    
+    @Override
+    public DoubleFieldBuilder setAsyncValidation(boolean asyncValidation) {
+        super.setAsyncValidation(asyncValidation);
+        return this;
+    }
+    
+    @Override
+    public DoubleFieldBuilder setAsyncValidation(boolean asyncValidation, long delay) {
+        super.setAsyncValidation(asyncValidation, delay);
+        return this;
+    }
+    
+    @Override
+    public DoubleFieldBuilder setParallelValidation(boolean parallelValidation) {
+        super.setParallelValidation(parallelValidation);
+        return this;
+    }
+    
     @NotNull
     @Override
     public DoubleListEntry build() {
         DoubleListEntry entry = new DoubleListEntry(getFieldNameKey(), value, getResetButtonKey(), defaultValue, saveConsumer, null, isRequireRestart());
-        if (min != null)
-            entry.setMinimum(min);
-        if (max != null)
-            entry.setMaximum(max);
+        entry.setRange(getRange());
         entry.setTooltipSupplier(() -> tooltipSupplier.apply(entry.getValue()));
         if (errorSupplier != null)
-            entry.setErrorSupplier(() -> errorSupplier.apply(entry.getValue()));
-        return entry;
+            entry.setErrorSupplier(createErrorSupplier(entry, entry::getValue, errorSupplier));
+        return applyDependencies(entry);
     }
     
 }
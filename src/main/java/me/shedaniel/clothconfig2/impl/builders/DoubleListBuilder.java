@@ -1,5 +1,8 @@
 package me.shedaniel.clothconfig2.impl.builders;
 
+import me.shedaniel.clothconfig2.api.AbstractConfigEntry;
+import me.shedaniel.clothconfig2.api.constraint.Constraint;
+import me.shedaniel.clothconfig2.api.constraint.RangeConstraint;
 import me.shedaniel.clothconfig2.gui.entries.DoubleListListEntry;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
@@ -8,6 +11,7 @@ import net.minecraft.text.Text;
 import net.minecraft.text.TranslatableText;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Optional;
@@ -118,6 +122,13 @@ public class DoubleListBuilder extends FieldBuilder<List<Double>, DoubleListList
         return this;
     }
     
+    /**
+     * The bounds set on this builder as a constraint on each element, {@link Constraint#forEach(Constraint)} turns it into one for the whole list.
+     */
+    public RangeConstraint<Double> getRange() {
+        return Constraint.range(min, max);
+    }
+    
     public DoubleListBuilder setDefaultValue(List<Double> defaultValue) {
         this.defaultValue = () -> defaultValue;
         return this;
@@ -143,14 +154,41 @@ public class DoubleListBuilder extends FieldBuilder<List<Double>, DoubleListList
         return this;
     }
     
+    @Override
+    public DoubleListBuilder addDependency(AbstractConfigEntry<?> dependency) {
+        super.addDependency(dependency);
+        return this;
+    }
+    
+    @Override
+    public DoubleListBuilder setDependencyListener(@Nullable Consumer<DoubleListListEntry> dependencyListener) {
+        super.setDependencyListener(dependencyListener);
+        return this;
+    }
+    
+    @Override
+    public DoubleListBuilder setAsyncValidation(boolean asyncValidation) {
+        super.setAsyncValidation(asyncValidation);
+        return this;
+    }
+    
+    @Override
+    public DoubleListBuilder setAsyncValidation(boolean asyncValidation, long delay) {
+        super.setAsyncValidation(asyncValidation, delay);
+        return this;
+    }
+    
+    @Override
+    public DoubleListBuilder setParallelValidation(boolean parallelValidation) {
+        super.setParallelValidation(parallelValidation);
+        return this;
+    }
+    
     @NotNull
     @Override
     public DoubleListListEntry build() {
         DoubleListListEntry entry = new DoubleListListEntry(getFieldNameKey(), value, expanded, null, saveConsumer, defaultValue, getResetButtonKey(), requireRestart, deleteButtonEnabled, insertInFront);
-        if (min != null)
-            entry.setMinimum(min);
-        if (max != null)
-            entry.setMaximum(max);
+        entry.setRange(getRange());
         if (createNewInstance != null)
             entry.setCreateNewInstance(createNewInstance);
         entry.setCellErrorSupplier(cellErrorSupplier);
@@ -158,8 +196,8 @@ public class DoubleListBuilder extends FieldBuilder<List<Double>, DoubleListList
         entry.setAddTooltip(addTooltip);
         entry.setRemoveTooltip(removeTooltip);
         if (errorSupplier != null)
-            entry.setErrorSupplier(() -> errorSupplier.apply(entry.getValue()));
-        return entry;
+            entry.setErrorSupplier(createErrorSupplier(entry, entry::getValue, errorSupplier));
+        return applyDependencies(entry);
     }
     
 }
@@ -1,10 +1,13 @@
 package me.shedaniel.clothconfig2.impl.builders;
 
+import me.shedaniel.clothconfig2.api.AbstractConfigEntry;
 import me.shedaniel.clothconfig2.gui.entries.DropdownBoxEntry;
+import me.shedaniel.clothconfig2.gui.entries.DropdownBoxEntry.DefaultDropdownMenuElement;
 import me.shedaniel.clothconfig2.gui.entries.DropdownBoxEntry.DefaultSelectionCellCreator;
 import me.shedaniel.clothconfig2.gui.entries.DropdownBoxEntry.DefaultSelectionTopCellElement;
 import me.shedaniel.clothconfig2.gui.entries.DropdownBoxEntry.SelectionCellCreator;
 import me.shedaniel.clothconfig2.gui.entries.DropdownBoxEntry.SelectionTopCellElement;
+import me.shedaniel.clothconfig2.impl.SelectionPool;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.block.Block;
@@ -19,6 +22,7 @@ import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.registry.Registry;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
 import java.util.Objects;
@@ -34,6 +38,7 @@ public class DropdownMenuBuilder<T> extends FieldBuilder<T, DropdownBoxEntry<T>>
     protected Function<T, Optional<Text[]>> tooltipSupplier = str -> Optional.empty();
     protected Consumer<T> saveConsumer = null;
     protected Iterable<T> selections = Collections.emptyList();
+    @Nullable protected SelectionPool<T> selectionPool;
     protected boolean suggestionMode = true;
     
     public DropdownMenuBuilder(Text resetButtonKey, Text fieldNameKey, SelectionTopCellElement<T> topCellElement, SelectionCellCreator<T> cellCreator) {
@@ -44,6 +49,19 @@ public class DropdownMenuBuilder<T> extends FieldBuilder<T, DropdownBoxEntry<T>>
     
     public DropdownMenuBuilder<T> setSelections(Iterable<T> selections) {
         this.selections = selections;
+        this.selectionPool = null;
+        return this;
+    }
+    
+    /**
+     * Shares the selections, and their search index, with every dropdown using the same key until the next resource reload,
+     * for example {@code setSharedSelections(Registry.ITEM, Registry.ITEM::getIds)}. Keying by a registry also refreshes the selections when it gains entries.
+     *
+     * @param key        identifies the selections, dropdowns sharing it must show the same text for the same selection
+     * @param selections only queried when the shared selections aren't computed yet
+     */
+    public DropdownMenuBuilder<T> setSharedSelections(Object key, Supplier<? extends Iterable<T>> selections) {
+        this.selectionPool = SelectionPool.of(key, selections);
         return this;
     }
     
@@ -101,15 +119,49 @@ public class DropdownMenuBuilder<T> extends FieldBuilder<T, DropdownBoxEntry<T>>
         return suggestionMode;
     }
     
+    @Override
+    public DropdownMenuBuilder<T> addDependency(AbstractConfigEntry<?> dependency) {
+        super.addDependency(dependency);
+        return this;
+    }
+    
+    @Override
+    public DropdownMenuBuilder<T> setDependencyListener(@Nullable Consumer<DropdownBoxEntry<T>> dependencyListener) {
+        super.setDependencyListener(dependencyListener);
+        return this;
+    }
+    
+    @Override
+    public DropdownMenuBuilder<T> setAsyncValidation(boolean asyncValidation) {
+        super.setAsyncValidation(asyncValidation);
+        return this;
+    }
+    
+    @Override
+    public DropdownMenuBuilder<T> setAsyncValidation(boolean asyncValidation, long delay) {
+        super.setAsyncValidation(asyncValidation, delay);
+        return this;
+    }
+    
+    @Override
+    public DropdownMenuBuilder<T> setParallelValidation(boolean parallelValidation) {
+        super.setParallelValidation(parallelValidation);
+        return this;
+    }
+    
     @NotNull
     @Override
     public DropdownBoxEntry<T> build() {
-        DropdownBoxEntry<T> entry = new DropdownBoxEntry<>(getFieldNameKey(), getResetButtonKey(), null, isRequireRestart(), defaultValue, saveConsumer, selections, topCellElement, cellCreator);
+        DropdownBoxEntry<T> entry;
+        if (selectionPool != null)
+            entry = new DropdownBoxEntry<>(getFieldNameKey(), getResetButtonKey(), null, isRequireRestart(), defaultValue, saveConsumer, topCellElement, cellCreator, new DefaultDropdownMenuElement<>(selectionPool));
+        else
+            entry = new DropdownBoxEntry<>(getFieldNameKey(), getResetButtonKey(), null, isRequireRestart(), defaultValue, saveConsumer, selections, topCellElement, cellCreator);
         entry.setTooltipSupplier(() -> tooltipSupplier.apply(entry.getValue()));
         if (errorSupplier != null)
-            entry.setErrorSupplier(() -> errorSupplier.apply(entry.getValue()));
+            entry.setErrorSupplier(createErrorSupplier(entry, entry::getValue, errorSupplier));
         entry.setSuggestionMode(suggestionMode);
-        return entry;
+        return applyDependencies(entry);
     }
     
     public static class TopCellElementBuilder {
@@ -1,14 +1,21 @@
 package me.shedaniel.clothconfig2.impl.builders;
 
+import com.google.common.collect.Lists;
+import me.shedaniel.clothconfig2.api.AbstractConfigEntry;
 import me.shedaniel.clothconfig2.api.AbstractConfigListEntry;
+import me.shedaniel.clothconfig2.impl.AsyncErrorSupplier;
+import me.shedaniel.clothconfig2.impl.PureErrorSupplier;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.text.Text;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -19,6 +26,11 @@ public abstract class FieldBuilder<T, A extends AbstractConfigListEntry> {
     protected boolean requireRestart = false;
     @Nullable protected Supplier<T> defaultValue = null;
     @Nullable protected Function<T, Optional<Text>> errorSupplier;
+    protected boolean asyncValidation = false;
+    protected long asyncValidationDelay = 250;
+    protected boolean parallelValidation = false;
+    protected final List<AbstractConfigEntry<?>> dependencies = Lists.newArrayList();
+    @Nullable protected Consumer<A> dependencyListener;
     
     protected FieldBuilder(Text resetButtonKey, Text fieldNameKey) {
         this.resetButtonKey = Objects.requireNonNull(resetButtonKey);
@@ -57,4 +69,76 @@ public abstract class FieldBuilder<T, A extends AbstractConfigListEntry> {
         this.requireRestart = requireRestart;
     }
     
+    public boolean isAsyncValidation() {
+        return asyncValidation;
+    }
+    
+    /**
+     * Runs the error supplier on a background thread instead of the render thread, the error supplier must be thread safe.
+     * Saving is blocked until the validation of the latest value completes.
+     */
+    public FieldBuilder<T, A> setAsyncValidation(boolean asyncValidation) {
+        this.asyncValidation = asyncValidation;
+        return this;
+    }
+    
+    /**
+     * @param delay the time in milliseconds the value has to stay unchanged before it is validated
+     */
+    public FieldBuilder<T, A> setAsyncValidation(boolean asyncValidation, long delay) {
+        this.asyncValidation = asyncValidation;
+        this.asyncValidationDelay = delay;
+        return this;
+    }
+    
+    public boolean isParallelValidation() {
+        return parallelValidation;
+    }
+    
+    /**
+     * Declares the error supplier side effect free and thread safe, such entries are validated once more right before saving,
+     * in parallel on large screens.
+     */
+    public FieldBuilder<T, A> setParallelValidation(boolean parallelValidation) {
+        this.parallelValidation = parallelValidation;
+        return this;
+    }
+    
+    /**
+     * The built entry re-validates, and calls the dependency listener, whenever the value of {@code dependency} changes.
+     */
+    public FieldBuilder<T, A> addDependency(AbstractConfigEntry<?> dependency) {
+        dependencies.add(Objects.requireNonNull(dependency));
+        return this;
+    }
+    
+    /**
+     * @param dependencyListener called with the built entry after one of its dependencies changed, for example to toggle whether it is editable
+     */
+    public FieldBuilder<T, A> setDependencyListener(@Nullable Consumer<A> dependencyListener) {
+        this.dependencyListener = dependencyListener;
+        return this;
+    }
+    
+    @ApiStatus.Internal
+    protected final A applyDependencies(A entry) {
+        for (AbstractConfigEntry<?> dependency : dependencies)
+            entry.addDependency(dependency);
+        if (dependencyListener != null) {
+            Consumer<A> listener = dependencyListener;
+            entry.addDependencyListener(e -> listener.accept(entry));
+            listener.accept(entry);
+        }
+        return entry;
+    }
+    
+    @ApiStatus.Internal
+    protected final <V> Supplier<Optional<Text>> createErrorSupplier(AbstractConfigEntry<?> entry, Supplier<V> valueSupplier, Function<V, Optional<Text>> errorSupplier) {
+        if (asyncValidation)
+            return new AsyncErrorSupplier<>(entry, valueSupplier, errorSupplier, asyncValidationDelay);
+        if (parallelValidation)
+            return new PureErrorSupplier<>(valueSupplier, errorSupplier);
+        return () -> errorSupplier.apply(valueSupplier.get());
+    }
+    
 }